@@ -0,0 +1,76 @@
+package nl.cofx.top10.jwt;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private Jwt jwt;
+    private Jwt jwtWithCache;
+    private String validToken;
+    private String tokenWithInvalidSignature;
+    private String expiredToken;
+    private String malformedToken;
+
+    @Setup
+    public void setUp() {
+        var secretKey = Jwts.SIG.HS512.key().build();
+        jwt = new Jwt(secretKey);
+        jwtWithCache = new Jwt(secretKey, new VerifiedTokenCache());
+
+        validToken = token(secretKey, Instant.now().plusSeconds(3600));
+        tokenWithInvalidSignature = token(Jwts.SIG.HS512.key().build(), Instant.now().plusSeconds(3600));
+        expiredToken = token(secretKey, Instant.now().minusSeconds(3600));
+        malformedToken = validToken.substring(0, validToken.length() / 2);
+    }
+
+    private static String token(SecretKey secretKey, Instant expiration) {
+        return Jwts.builder()
+                .expiration(Date.from(expiration))
+                .subject("0f8fad5bd9cb469fa16570867728950e")
+                .claim("name", "John Doe")
+                .claim("emailAddress", "john.doe@example.com")
+                .signWith(secretKey, Jwts.SIG.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public Jws<Claims> validToken() {
+        return jwt.getJws(validToken);
+    }
+
+    @Benchmark
+    public Jws<Claims> validTokenWithCache() {
+        return jwtWithCache.getJws(validToken);
+    }
+
+    @Benchmark
+    public Jws<Claims> tokenWithInvalidSignature() {
+        return jwt.getJws(tokenWithInvalidSignature);
+    }
+
+    @Benchmark
+    public Jws<Claims> expiredToken() {
+        return jwt.getJws(expiredToken);
+    }
+
+    @Benchmark
+    public Jws<Claims> malformedToken() {
+        return jwt.getJws(malformedToken);
+    }
+}
@@ -0,0 +1,73 @@
+package nl.cofx.top10.quiz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import nl.cofx.top10.quiz.dto.PersonalResultDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizRepositoryBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int numberOfParticipants;
+
+    private List<JsonObject> participants;
+
+    @Setup
+    public void setUp() {
+        participants = new ArrayList<>(numberOfParticipants);
+        for (var i = 0; i < numberOfParticipants; ++i) {
+            var correctAssignments = new JsonArray();
+            var incorrectAssignments = new JsonArray();
+            for (var j = 1; j <= numberOfParticipants / 2; ++j) {
+                var creator = (i + j) % numberOfParticipants;
+                var assignment = new JsonObject()
+                        .put("listId", listId(creator))
+                        .put("assigneeId", accountId(j % 2 == 0 ? creator : i))
+                        .put("assigneeName", name(j % 2 == 0 ? creator : i))
+                        .put("creatorId", accountId(creator))
+                        .put("creatorName", name(creator));
+                if (j % 2 == 0) {
+                    correctAssignments.add(assignment);
+                } else {
+                    incorrectAssignments.add(assignment);
+                }
+            }
+
+            participants.add(new JsonObject()
+                    .put("accountId", accountId(i))
+                    .put("name", name(i))
+                    .put("listId", listId(i))
+                    .put("correctAssignments", correctAssignments)
+                    .put("incorrectAssignments", incorrectAssignments));
+        }
+    }
+
+    private static String accountId(int i) {
+        return String.format("%032x", i);
+    }
+
+    private static String listId(int i) {
+        return String.format("%032x", i + 1_000_000);
+    }
+
+    private static String name(int i) {
+        return "Participant " + i;
+    }
+
+    @Benchmark
+    public Map<String, PersonalResultDto> toPersonalResults() {
+        return QuizRepository.toPersonalResults(participants);
+    }
+}
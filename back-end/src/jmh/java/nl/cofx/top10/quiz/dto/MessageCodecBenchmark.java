@@ -0,0 +1,187 @@
+package nl.cofx.top10.quiz.dto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.vertx.core.buffer.Buffer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+    private static final int NUMBER_OF_ELEMENTS = 20;
+
+    private final ListDtoMessageCodec listDtoMessageCodec = new ListDtoMessageCodec();
+    private final ListsDtoMessageCodec listsDtoMessageCodec = new ListsDtoMessageCodec();
+    private final QuizDtoMessageCodec quizDtoMessageCodec = new QuizDtoMessageCodec();
+    private final QuizzesDtoMessageCodec quizzesDtoMessageCodec = new QuizzesDtoMessageCodec();
+    private final ResultSummaryDtoMessageCodec resultSummaryDtoMessageCodec = new ResultSummaryDtoMessageCodec();
+
+    private ListDto listDto;
+    private ListsDto listsDto;
+    private QuizDto quizDto;
+    private QuizzesDto quizzesDto;
+    private ResultSummaryDto resultSummaryDto;
+
+    private Buffer encodedListDto;
+    private Buffer encodedListsDto;
+    private Buffer encodedQuizDto;
+    private Buffer encodedQuizzesDto;
+    private Buffer encodedResultSummaryDto;
+
+    @Setup
+    public void setUp() {
+        listDto = listDto(0);
+        var listsDtoBuilder = ListsDto.builder();
+        var quizzesDtoBuilder = QuizzesDto.builder();
+        var personalResults = new HashMap<String, PersonalResultDto>();
+        for (var i = 0; i < NUMBER_OF_ELEMENTS; ++i) {
+            listsDtoBuilder.list(listDto(i));
+            quizzesDtoBuilder.quiz(quizDto(i));
+            personalResults.put(accountId(i), personalResultDto(i));
+        }
+        listsDto = listsDtoBuilder.build();
+        quizDto = quizDto(0);
+        quizzesDto = quizzesDtoBuilder.build();
+        resultSummaryDto = ResultSummaryDto.builder()
+                .quizId("quiz")
+                .personalResults(personalResults)
+                .build();
+
+        encodedListDto = encodeListDto();
+        encodedListsDto = encodeListsDto();
+        encodedQuizDto = encodeQuizDto();
+        encodedQuizzesDto = encodeQuizzesDto();
+        encodedResultSummaryDto = encodeResultSummaryDto();
+    }
+
+    private static String accountId(int i) {
+        return String.format("%032x", i);
+    }
+
+    private static ListDto listDto(int i) {
+        var listDtoBuilder = ListDto.builder()
+                .id(String.format("%032x", i + 1_000))
+                .creatorId(accountId(i))
+                .creatorName("Creator " + i)
+                .isOwnList(i % 2 == 0)
+                .quizId("quiz")
+                .isActiveQuiz(true)
+                .assigneeId(accountId(i + 1))
+                .assigneeName("Assignee " + i)
+                .hasDraftStatus(false);
+        var videos = new ArrayList<VideoDto>();
+        for (var v = 0; v < 10; ++v) {
+            videos.add(VideoDto.builder()
+                    .id(String.format("%032x", i * 10 + v))
+                    .url("https://www.youtube.com/watch?v=" + i + "-" + v)
+                    .referenceId(i + "-" + v)
+                    .build());
+        }
+
+        return listDtoBuilder.videos(videos).build();
+    }
+
+    private static QuizDto quizDto(int i) {
+        return QuizDto.builder()
+                .id(String.format("%032x", i + 2_000))
+                .name("Quiz " + i)
+                .isActive(true)
+                .creatorId(accountId(i))
+                .isCreator(i % 2 == 0)
+                .deadline(Instant.now())
+                .personalListId(String.format("%032x", i + 1_000))
+                .personalListHasDraftStatus(true)
+                .build();
+    }
+
+    private static PersonalResultDto personalResultDto(int i) {
+        var personalResultDtoBuilder = PersonalResultDto.builder()
+                .accountId(accountId(i))
+                .name("Participant " + i);
+        for (var j = 0; j < NUMBER_OF_ELEMENTS; ++j) {
+            var assignment = AssignmentDto.builder()
+                    .listId(String.format("%032x", j + 1_000))
+                    .assigneeId(accountId(j))
+                    .assigneeName("Participant " + j)
+                    .creatorId(accountId(j))
+                    .creatorName("Participant " + j)
+                    .build();
+            if (j % 3 == 0) {
+                personalResultDtoBuilder.incorrectAssignment(assignment);
+            } else {
+                personalResultDtoBuilder.correctAssignment(assignment);
+            }
+        }
+
+        return personalResultDtoBuilder.build();
+    }
+
+    @Benchmark
+    public Buffer encodeListDto() {
+        var buffer = Buffer.buffer();
+        listDtoMessageCodec.encodeToWire(buffer, listDto);
+        return buffer;
+    }
+
+    @Benchmark
+    public ListDto decodeListDto() {
+        return listDtoMessageCodec.decodeFromWire(0, encodedListDto);
+    }
+
+    @Benchmark
+    public Buffer encodeListsDto() {
+        var buffer = Buffer.buffer();
+        listsDtoMessageCodec.encodeToWire(buffer, listsDto);
+        return buffer;
+    }
+
+    @Benchmark
+    public ListsDto decodeListsDto() {
+        return listsDtoMessageCodec.decodeFromWire(0, encodedListsDto);
+    }
+
+    @Benchmark
+    public Buffer encodeQuizDto() {
+        var buffer = Buffer.buffer();
+        quizDtoMessageCodec.encodeToWire(buffer, quizDto);
+        return buffer;
+    }
+
+    @Benchmark
+    public QuizDto decodeQuizDto() {
+        return quizDtoMessageCodec.decodeFromWire(0, encodedQuizDto);
+    }
+
+    @Benchmark
+    public Buffer encodeQuizzesDto() {
+        var buffer = Buffer.buffer();
+        quizzesDtoMessageCodec.encodeToWire(buffer, quizzesDto);
+        return buffer;
+    }
+
+    @Benchmark
+    public QuizzesDto decodeQuizzesDto() {
+        return quizzesDtoMessageCodec.decodeFromWire(0, encodedQuizzesDto);
+    }
+
+    @Benchmark
+    public Buffer encodeResultSummaryDto() {
+        var buffer = Buffer.buffer();
+        resultSummaryDtoMessageCodec.encodeToWire(buffer, resultSummaryDto);
+        return buffer;
+    }
+
+    @Benchmark
+    public ResultSummaryDto decodeResultSummaryDto() {
+        return resultSummaryDtoMessageCodec.decodeFromWire(0, encodedResultSummaryDto);
+    }
+}
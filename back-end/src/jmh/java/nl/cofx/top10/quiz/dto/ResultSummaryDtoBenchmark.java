@@ -0,0 +1,55 @@
+package nl.cofx.top10.quiz.dto;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSummaryDtoBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int numberOfParticipants;
+
+    private ResultSummaryDto resultSummaryDto;
+
+    @Setup
+    public void setUp() {
+        var assignment = AssignmentDto.builder()
+                .listId("list")
+                .assigneeId("assignee")
+                .assigneeName("Assignee")
+                .creatorId("creator")
+                .creatorName("Creator")
+                .build();
+
+        var personalResults = new HashMap<String, PersonalResultDto>();
+        for (var i = 0; i < numberOfParticipants; ++i) {
+            var accountId = String.format("%032x", i);
+            var numberOfCorrectAssignments = i % (numberOfParticipants / 2);
+            personalResults.put(accountId, PersonalResultDto.builder()
+                    .accountId(accountId)
+                    .name("Participant " + i)
+                    .correctAssignments(Collections.nCopies(numberOfCorrectAssignments, assignment))
+                    .incorrectAssignments(Collections.nCopies(numberOfParticipants - 1 - numberOfCorrectAssignments, assignment))
+                    .build());
+        }
+
+        resultSummaryDto = ResultSummaryDto.builder()
+                .quizId("quiz")
+                .personalResults(personalResults)
+                .build();
+    }
+
+    @Benchmark
+    public List<RankingEntryDto> getRanking() {
+        return resultSummaryDto.getRanking();
+    }
+}
@@ -0,0 +1,53 @@
+package nl.cofx.top10.random;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.random.RandomDataGenerator;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenGeneratorBenchmark {
+
+    private final RandomDataGenerator randomDataGenerator = new RandomDataGenerator();
+
+    @Benchmark
+    @Threads(1)
+    public String randomDataGeneratorWithOneThread() {
+        return randomDataGenerator.nextSecureHexString(32);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String randomDataGeneratorWithFourThreads() {
+        return randomDataGenerator.nextSecureHexString(32);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String randomDataGeneratorWithSixteenThreads() {
+        return randomDataGenerator.nextSecureHexString(32);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String tokenGeneratorWithOneThread() {
+        return TokenGenerator.generateToken();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String tokenGeneratorWithFourThreads() {
+        return TokenGenerator.generateToken();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String tokenGeneratorWithSixteenThreads() {
+        return TokenGenerator.generateToken();
+    }
+}
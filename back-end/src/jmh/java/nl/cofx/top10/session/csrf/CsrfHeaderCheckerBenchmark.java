@@ -0,0 +1,70 @@
+package nl.cofx.top10.session.csrf;
+
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsrfHeaderCheckerBenchmark {
+
+    private static final String TARGET = "https://top10.example.com";
+
+    private final CsrfHeaderChecker csrfHeaderChecker = new CsrfHeaderChecker(TARGET);
+
+    private RoutingContext matchingOrigin;
+    private RoutingContext matchingReferer;
+    private RoutingContext mismatchingOrigin;
+    private RoutingContext missingHeaders;
+
+    @Setup
+    public void setUp() {
+        matchingOrigin = routingContext(TARGET, null);
+        matchingReferer = routingContext(null, TARGET + "/quiz/123");
+        mismatchingOrigin = routingContext("https://evil.example.com", null);
+        missingHeaders = routingContext(null, null);
+    }
+
+    private static RoutingContext routingContext(String origin, String referer) {
+        var request = mock(HttpServerRequest.class, withSettings().stubOnly());
+        when(request.getHeader("Origin")).thenReturn(origin);
+        when(request.getHeader("Referer")).thenReturn(referer);
+
+        var response = mock(HttpServerResponse.class, withSettings().stubOnly().defaultAnswer(RETURNS_SELF));
+
+        var routingContext = mock(RoutingContext.class, withSettings().stubOnly());
+        when(routingContext.request()).thenReturn(request);
+        when(routingContext.response()).thenReturn(response);
+        return routingContext;
+    }
+
+    @Benchmark
+    public void matchingOrigin() {
+        csrfHeaderChecker.handle(matchingOrigin);
+    }
+
+    @Benchmark
+    public void matchingReferer() {
+        csrfHeaderChecker.handle(matchingReferer);
+    }
+
+    @Benchmark
+    public void mismatchingOrigin() {
+        csrfHeaderChecker.handle(mismatchingOrigin);
+    }
+
+    @Benchmark
+    public void missingHeaders() {
+        csrfHeaderChecker.handle(missingHeaders);
+    }
+}
@@ -0,0 +1,27 @@
+package nl.cofx.top10.url;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YouTubeUrlBenchmark {
+
+    @Param({
+            "https://www.youtube.com/watch?v=RBgcN9lrZ3g",
+            "https://www.youtube.com/watch?list=PL1&index=2&v=RBgcN9lrZ3g&t=10s",
+            "https://youtu.be/RBgcN9lrZ3g",
+            "https://youtu.be/RBgcN9lrZ3g?t=10"
+    })
+    private String url;
+
+    @Benchmark
+    public String extractVideoId() {
+        return YouTubeUrl.extractVideoId(url);
+    }
+}
@@ -2,32 +2,30 @@ package nl.cofx.top10;
 
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
-import io.vertx.core.http.HttpMethod;
-import io.vertx.ext.web.Router;
-import io.vertx.ext.web.handler.CorsHandler;
 import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.account.ExternalAccountVerticle;
 import nl.cofx.top10.config.Config;
+import nl.cofx.top10.config.NodeRole;
 import nl.cofx.top10.config.ProdConfig;
 import nl.cofx.top10.eventbus.MessageCodecs;
-import nl.cofx.top10.healthcheck.HealthCheckVerticle;
 import nl.cofx.top10.jwt.Jwt;
+import nl.cofx.top10.jwt.VerifiedTokenCache;
 import nl.cofx.top10.migration.MigrationVerticle;
 import nl.cofx.top10.quiz.ListEntityVerticle;
-import nl.cofx.top10.quiz.ListHttpVerticle;
 import nl.cofx.top10.quiz.QuizEntityVerticle;
-import nl.cofx.top10.quiz.QuizHttpVerticle;
-import nl.cofx.top10.session.*;
-import nl.cofx.top10.session.csrf.CsrfHeaderChecker;
-import nl.cofx.top10.session.csrf.CsrfTokenHandler;
-
+import nl.cofx.top10.quiz.QuizMetadataCache;
+import nl.cofx.top10.quiz.QuizResultCache;
+import nl.cofx.top10.quiz.QuizShardVerticle;
+import nl.cofx.top10.quiz.QuizShards;
+import nl.cofx.top10.session.GoogleOauth2;
+import nl.cofx.top10.session.MicrosoftOauth2;
+
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-
-import static nl.cofx.top10.session.JwtSessionHandler.AUTHORIZATION_HEADER_NAME;
-import static nl.cofx.top10.session.csrf.CsrfTokenHandler.CSRF_TOKEN_HEADER_NAME;
+import java.util.function.Supplier;
 
 @Slf4j
 public class Application {
@@ -36,6 +34,7 @@ public class Application {
     private final GoogleOauth2 googleOauth2;
     private final MicrosoftOauth2 microsoftOauth2;
     private final Vertx vertx;
+    private final EventLoopLayout eventLoopLayout = new EventLoopLayout();
 
     public Application(Config config, Vertx vertx) {
         this(config, new GoogleOauth2(config), new MicrosoftOauth2(config), vertx);
@@ -50,108 +49,104 @@ public class Application {
 
     public static void main(String[] args) {
         var config = new ProdConfig();
-        var vertx = Vertx.vertx(config.getVertxOptions());
-        var app = new Application(config, vertx);
-        app.start().onComplete(ar -> {
-            if (ar.succeeded()) {
-                log.info("Application started successfully");
-            } else {
-                log.error("Application failed to start", ar.cause());
-                vertx.close().onComplete(asyncCloseResult -> {
-                    if (asyncCloseResult.failed()) {
-                        log.error("Unable to close Vert.x instance", asyncCloseResult.cause());
-                    } else {
-                        log.debug("Successfully stopped Vert.x instance");
-                    }
-                });
+        createVertx(config).onComplete(asyncVertx -> {
+            if (asyncVertx.failed()) {
+                log.error("Unable to create Vert.x instance", asyncVertx.cause());
+                return;
             }
+
+            var vertx = asyncVertx.result();
+            var app = new Application(config, vertx);
+            app.start().onComplete(ar -> {
+                if (ar.succeeded()) {
+                    log.info("Application started successfully");
+                } else {
+                    log.error("Application failed to start", ar.cause());
+                    vertx.close().onComplete(asyncCloseResult -> {
+                        if (asyncCloseResult.failed()) {
+                            log.error("Unable to close Vert.x instance", asyncCloseResult.cause());
+                        } else {
+                            log.debug("Successfully stopped Vert.x instance");
+                        }
+                    });
+                }
+            });
         });
     }
 
+    public static Future<Vertx> createVertx(Config config) {
+        var vertxBuilder = Vertx.builder().with(config.getVertxOptions());
+        var tracerFactory = config.getTracerFactory();
+        if (tracerFactory != null) {
+            vertxBuilder.withTracer(tracerFactory);
+        }
+
+        if (!config.isClustered()) {
+            return Future.succeededFuture(vertxBuilder.build());
+        }
+
+        log.info("Joining cluster as node with roles {}", config.getNodeRoles());
+        return vertxBuilder.withClusterManager(config.getClusterManager()).buildClustered();
+    }
+
     private Future<String> deploy(Verticle verticle, DeploymentOptions deploymentOptions) {
         return Future.future(promise -> vertx.deployVerticle(verticle, deploymentOptions, promise));
     }
 
-    private Future<String> deploy(Verticle verticle) {
-        return deploy(verticle, new DeploymentOptions());
+    private Future<String> deploy(Supplier<Verticle> verticleSupplier, int instances) {
+        return vertx.deployVerticle(eventLoopLayout.track(verticleSupplier), new DeploymentOptions().setInstances(instances));
     }
 
-    private Future<String> deployVerticles(Jwt jwt, Router router) {
-        return Future.future(promise -> {
-            log.info("Deploying verticles");
-
-            var jdbcOptions = config.getJdbcOptions();
-            var jwtSecretKey = config.getJwtSecretKey();
-            var useSecureCookies = config.useSecureCookies();
-
-            var deploymentOptions = new DeploymentOptions().setThreadingModel(io.vertx.core.ThreadingModel.WORKER);
-            deploy(new MigrationVerticle(config.getJdbcUrl(), config.getJdbcUsername(), config.getJdbcPassword()), deploymentOptions)
-                    .compose(migrationResult ->
-                            Future.all(List.of(
-                                    deploy(new ExternalAccountVerticle(jdbcOptions)),
-                                    deploy(new SessionVerticle(googleOauth2, microsoftOauth2, router, jwtSecretKey, useSecureCookies)),
-                                    deploy(new SessionStatusVerticle(jwt, router, jwtSecretKey, useSecureCookies)),
-                                    deploy(new QuizHttpVerticle(router)),
-                                    deploy(new QuizEntityVerticle(jdbcOptions)),
-                                    deploy(new ListHttpVerticle(router)),
-                                    deploy(new ListEntityVerticle(jdbcOptions)))))
-                    .compose(deploymentResult -> deploy(new HealthCheckVerticle(jdbcOptions, router)))
-                    .onComplete(promise);
-        });
+    private Future<Void> deployEntityVerticles() {
+        log.info("Deploying entity verticles");
+
+        var jdbcOptions = config.getJdbcOptions();
+        var entityVerticleInstances = config.getNumberOfEntityVerticleInstances();
+        var quizMetadataCache = new QuizMetadataCache();
+
+        var deploymentOptions = new DeploymentOptions().setThreadingModel(ThreadingModel.WORKER);
+        return deploy(new MigrationVerticle(config.getJdbcUrl(), config.getJdbcUsername(), config.getJdbcPassword()), deploymentOptions)
+                .compose(migrationResult -> {
+                    var deployments = new ArrayList<Future<String>>(List.of(
+                            deploy(() -> new ExternalAccountVerticle(jdbcOptions), entityVerticleInstances),
+                            deploy(() -> new QuizEntityVerticle(jdbcOptions, quizMetadataCache), entityVerticleInstances),
+                            deploy(() -> new ListEntityVerticle(jdbcOptions, quizMetadataCache), entityVerticleInstances)));
+                    QuizShards.shards().forEach(shard -> deployments.add(deploy(() -> new QuizShardVerticle(jdbcOptions, shard), 1)));
+                    return Future.all(deployments);
+                })
+                .mapEmpty();
     }
 
-    public Future<String> start() {
-        log.info("Starting Top 10");
-
-        return Future.future(promise -> {
-            log.info("Registering message codecs");
+    private Future<Void> deployHttpServers() {
+        log.info("Deploying HTTP servers");
 
-            MessageCodecs.register(vertx.eventBus());
+        var jwt = new Jwt(config.getJwtSecretKey(), new VerifiedTokenCache());
+        var quizResultCache = new QuizResultCache();
 
-            log.info("Setting up router");
-
-            var router = Router.router(vertx);
+        return deploy(
+                () -> new HttpServerVerticle(config, googleOauth2, microsoftOauth2, jwt, quizResultCache),
+                config.getNumberOfHttpServerInstances())
+                .mapEmpty();
+    }
 
-            var corsHandler = CorsHandler.create()
-                    .addOrigin(config.getCsrfTarget())
-                    .allowCredentials(true)
-                    .allowedHeaders(Set.of(AUTHORIZATION_HEADER_NAME, CSRF_TOKEN_HEADER_NAME, "content-type"))
-                    .allowedMethods(Set.of(HttpMethod.DELETE, HttpMethod.PUT))
-                    .exposedHeader(CSRF_TOKEN_HEADER_NAME);
-            router.route().handler(corsHandler);
+    private Future<Void> deployVerticles() {
+        var nodeRoles = config.getNodeRoles();
+        log.info("Deploying verticles for roles {}", nodeRoles);
 
-            ErrorHandlers.configure(router);
+        var entityDeployment = nodeRoles.contains(NodeRole.ENTITY) ? deployEntityVerticles() : Future.<Void>succeededFuture();
+        return entityDeployment.compose(entityDeploymentResult ->
+                nodeRoles.contains(NodeRole.HTTP) ? deployHttpServers() : Future.<Void>succeededFuture());
+    }
 
-            router.route("/session/*").handler(new CsrfHeaderChecker(config.getCsrfTarget()));
-            var jwt = new Jwt(config.getJwtSecretKey());
-            router.route("/session/*").handler(new CsrfTokenHandler(jwt, config.getJwtSecretKey(), config.useSecureCookies()));
-            router.route("/private/*")
-                    .handler(new JwtSessionHandler(jwt))
-                    .handler(new PrivateRouteHandler());
-            router.route("/public/*").handler(new JwtSessionHandler(jwt));
+    public Future<Void> start() {
+        log.info("Starting Top 10");
 
-            log.info("Setting up HTTP server");
+        log.info("Registering message codecs");
 
-            var server = vertx.createHttpServer();
-            server.requestHandler(router);
-            var port = config.getHttpPort();
+        MessageCodecs.register(vertx.eventBus());
 
-            deployVerticles(jwt, router).onComplete(deploymentResult -> {
-                if (deploymentResult.succeeded()) {
-                    server.listen(port, asyncServer -> {
-                        if (asyncServer.succeeded()) {
-                            log.info("Listening for HTTP requests on port {}", port);
-                            promise.complete();
-                        } else {
-                            log.error("Failed to listen for HTTP requests on port {}", port, asyncServer.cause());
-                            promise.fail(asyncServer.cause());
-                        }
-                    });
-                } else {
-                    log.error("Failed to deploy verticles", deploymentResult.cause());
-                    promise.fail(deploymentResult.cause());
-                }
-            });
-        });
+        return deployVerticles()
+                .onSuccess(deploymentResult -> eventLoopLayout.report())
+                .onFailure(cause -> log.error("Failed to deploy verticles", cause));
     }
 }
@@ -56,6 +56,9 @@ public class ErrorHandlers {
         } else if (failure instanceof ConflictException) {
             message = failure.getMessage();
             statusCode = 409;
+        } else if (failure instanceof ServiceUnavailableException) {
+            message = failure.getMessage();
+            statusCode = 503;
         } else {
             log.error(message, failure);
         }
@@ -0,0 +1,65 @@
+package nl.cofx.top10;
+
+import io.vertx.core.Context;
+import io.vertx.core.Promise;
+import io.vertx.core.Verticle;
+import io.vertx.core.Vertx;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+public class EventLoopLayout {
+
+    private final Map<String, Set<String>> threadsPerVerticle = new ConcurrentSkipListMap<>();
+    private final Map<String, AtomicInteger> instancesPerVerticle = new ConcurrentSkipListMap<>();
+
+    public Supplier<Verticle> track(Supplier<Verticle> verticleSupplier) {
+        return () -> new TrackedVerticle(verticleSupplier.get());
+    }
+
+    public void report() {
+        log.info("Event-loop layout:");
+        threadsPerVerticle.forEach((verticle, threads) ->
+                log.info("{}: {} instance(s) on {}", verticle, instancesPerVerticle.get(verticle), String.join(", ", threads)));
+    }
+
+    private void register(Verticle verticle) {
+        var name = verticle.getClass().getSimpleName();
+        threadsPerVerticle.computeIfAbsent(name, key -> new ConcurrentSkipListSet<>()).add(Thread.currentThread().getName());
+        instancesPerVerticle.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @RequiredArgsConstructor
+    private class TrackedVerticle implements Verticle {
+
+        private final Verticle verticle;
+
+        @Override
+        public Vertx getVertx() {
+            return verticle.getVertx();
+        }
+
+        @Override
+        public void init(Vertx vertx, Context context) {
+            verticle.init(vertx, context);
+        }
+
+        @Override
+        public void start(Promise<Void> startPromise) throws Exception {
+            register(verticle);
+            verticle.start(startPromise);
+        }
+
+        @Override
+        public void stop(Promise<Void> stopPromise) throws Exception {
+            verticle.stop(stopPromise);
+        }
+    }
+}
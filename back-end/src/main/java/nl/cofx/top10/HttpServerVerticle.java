@@ -0,0 +1,88 @@
+package nl.cofx.top10;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.CorsHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.config.Config;
+import nl.cofx.top10.healthcheck.HealthCheckVerticle;
+import nl.cofx.top10.jwt.Jwt;
+import nl.cofx.top10.quiz.ListHttpVerticle;
+import nl.cofx.top10.quiz.QuizHttpVerticle;
+import nl.cofx.top10.quiz.QuizResultCache;
+import nl.cofx.top10.session.*;
+import nl.cofx.top10.session.csrf.CsrfHeaderChecker;
+import nl.cofx.top10.session.csrf.CsrfTokenHandler;
+
+import java.util.List;
+import java.util.Set;
+
+import static nl.cofx.top10.session.JwtSessionHandler.AUTHORIZATION_HEADER_NAME;
+import static nl.cofx.top10.session.csrf.CsrfTokenHandler.CSRF_TOKEN_HEADER_NAME;
+
+@Slf4j
+@RequiredArgsConstructor
+public class HttpServerVerticle extends AbstractVerticle {
+
+    private final Config config;
+    private final GoogleOauth2 googleOauth2;
+    private final MicrosoftOauth2 microsoftOauth2;
+    private final Jwt jwt;
+    private final QuizResultCache quizResultCache;
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        log.info("Starting");
+
+        var router = createRouter();
+        var jdbcOptions = config.getJdbcOptions();
+        var jwtSecretKey = config.getJwtSecretKey();
+        var useSecureCookies = config.useSecureCookies();
+        var port = config.getHttpPort();
+
+        Future.all(List.of(
+                        vertx.deployVerticle(new SessionVerticle(googleOauth2, microsoftOauth2, router, jwtSecretKey, useSecureCookies)),
+                        vertx.deployVerticle(new SessionStatusVerticle(jwt, router, jwtSecretKey, useSecureCookies, config.getSessionRefreshFraction())),
+                        vertx.deployVerticle(new QuizHttpVerticle(router, quizResultCache)),
+                        vertx.deployVerticle(new ListHttpVerticle(router)),
+                        vertx.deployVerticle(new HealthCheckVerticle(jdbcOptions, router))))
+                .compose(deploymentResult -> vertx.createHttpServer()
+                        .requestHandler(router)
+                        .listen(port))
+                .onSuccess(server -> {
+                    log.info("Listening for HTTP requests on port {}", server.actualPort());
+                    startPromise.complete();
+                })
+                .onFailure(cause -> {
+                    log.error("Failed to listen for HTTP requests on port {}", port, cause);
+                    startPromise.fail(cause);
+                });
+    }
+
+    private Router createRouter() {
+        var router = Router.router(vertx);
+
+        var corsHandler = CorsHandler.create()
+                .addOrigin(config.getCsrfTarget())
+                .allowCredentials(true)
+                .allowedHeaders(Set.of(AUTHORIZATION_HEADER_NAME, CSRF_TOKEN_HEADER_NAME, "content-type"))
+                .allowedMethods(Set.of(HttpMethod.DELETE, HttpMethod.PUT))
+                .exposedHeader(CSRF_TOKEN_HEADER_NAME);
+        router.route().handler(corsHandler);
+
+        ErrorHandlers.configure(router);
+
+        router.route("/session/*").handler(new CsrfHeaderChecker(config.getCsrfTarget()));
+        router.route("/session/*").handler(new CsrfTokenHandler(jwt, config.getJwtSecretKey(), config.useSecureCookies(), config.getCsrfTokenRotationAgeInSeconds()));
+        router.route("/private/*")
+                .handler(new JwtSessionHandler(jwt))
+                .handler(new PrivateRouteHandler());
+        router.route("/public/*").handler(new JwtSessionHandler(jwt));
+
+        return router;
+    }
+}
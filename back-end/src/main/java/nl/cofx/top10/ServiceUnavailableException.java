@@ -0,0 +1,10 @@
+package nl.cofx.top10;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 3620315938470127715L;
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -2,14 +2,15 @@ package nl.cofx.top10.account;
 
 import io.vertx.core.Future;
 import io.vertx.core.eventbus.Message;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.jdbc.JDBCClient;
-import io.vertx.ext.sql.SQLConnection;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.entity.AbstractEntityVerticle;
+import nl.cofx.top10.postgresql.PostgreSql;
 
+import static nl.cofx.top10.postgresql.PostgreSql.execute;
 import static nl.cofx.top10.postgresql.PostgreSql.toUuid;
 
 @Slf4j
@@ -18,12 +19,13 @@ public class ExternalAccountVerticle extends AbstractEntityVerticle {
 
     public static final String EXTERNAL_LOGIN_ADDRESS = "external.login.accountId";
 
-    private static final String GET_ACCOUNT_BY_GOOGLE_ID_TEMPLATE = "SELECT replace(a.account_id::text, '-', '') AS account_id, a.name, a.email_address FROM account a NATURAL JOIN google_account g WHERE g.google_account_id = ?";
-    private static final String GET_ACCOUNT_BY_MICROSOFT_ID_TEMPLATE = "SELECT replace(a.account_id::text, '-', '') AS account_id, a.name, a.email_address FROM account a NATURAL JOIN microsoft_account g WHERE g.microsoft_account_id = ?";
-    private static final String UPDATE_STATISTICS_TEMPLATE = "UPDATE account SET last_login_at = NOW(), number_of_logins = number_of_logins + 1 WHERE account_id = ?";
-    private static final String CREATE_ACCOUNT_TEMPLATE = "INSERT INTO account (name, email_address, first_login_at, last_login_at, number_of_logins) VALUES (?, ?, NOW(), NOW(), 1)";
-    private static final String CREATE_GOOGLE_ACCOUNT_TEMPLATE = "INSERT INTO google_account (account_id, google_account_id) VALUES (?, ?)";
-    private static final String CREATE_MICROSOFT_ACCOUNT_TEMPLATE = "INSERT INTO microsoft_account (account_id, microsoft_account_id) VALUES (?, ?)";
+    static final String GET_ACCOUNT_BY_GOOGLE_ID_TEMPLATE = "SELECT replace(a.account_id::text, '-', '') AS account_id, a.name, a.email_address FROM account a NATURAL JOIN google_account g WHERE g.google_account_id = $1";
+    static final String GET_ACCOUNT_BY_MICROSOFT_ID_TEMPLATE = "SELECT replace(a.account_id::text, '-', '') AS account_id, a.name, a.email_address FROM account a NATURAL JOIN microsoft_account g WHERE g.microsoft_account_id = $1";
+    static final String UPDATE_STATISTICS_TEMPLATE = "UPDATE account SET last_login_at = NOW(), number_of_logins = number_of_logins + 1 WHERE account_id = $1";
+    static final String CREATE_ACCOUNT_TEMPLATE = "INSERT INTO account (name, email_address, first_login_at, last_login_at, number_of_logins) VALUES ($1, $2, NOW(), NOW(), 1) "
+                                                  + "RETURNING replace(account_id::text, '-', '') AS account_id";
+    static final String CREATE_GOOGLE_ACCOUNT_TEMPLATE = "INSERT INTO google_account (account_id, google_account_id) VALUES ($1, $2)";
+    static final String CREATE_MICROSOFT_ACCOUNT_TEMPLATE = "INSERT INTO microsoft_account (account_id, microsoft_account_id) VALUES ($1, $2)";
 
     private final JsonObject jdbcOptions;
 
@@ -31,7 +33,7 @@ public class ExternalAccountVerticle extends AbstractEntityVerticle {
     public void start() {
         log.info("Starting");
 
-        sqlClient = JDBCClient.createShared(vertx, jdbcOptions);
+        pool = PostgreSql.pool(vertx, jdbcOptions);
 
         vertx.eventBus().consumer(EXTERNAL_LOGIN_ADDRESS, this::handle);
     }
@@ -83,32 +85,23 @@ public class ExternalAccountVerticle extends AbstractEntityVerticle {
     }
 
     private Future<JsonObject> getAccount(String id, String provider) {
-        return Future.future(promise -> {
-            var params = new JsonArray().add(id);
-            var template = getRetrievalTemplate(provider);
-            sqlClient.querySingleWithParams(template, params, asyncResult -> {
-                if (asyncResult.failed()) {
-                    var cause = asyncResult.cause();
-                    log.error("Unable to execute query \"{}\"", template, cause);
-                    promise.fail(asyncResult.cause());
-                    return;
-                }
-
-                var result = asyncResult.result();
-                if (result == null) {
-                    log.debug("Query \"{}\" produced no result", template);
-                    promise.complete(null);
-                    return;
-                }
-
-                var account = new JsonObject()
-                        .put("accountId", result.getString(0))
-                        .put("name", result.getString(1))
-                        .put("emailAddress", result.getString(2));
-                log.debug("Query \"{}\" produced result \"{}\"", template, account);
-                promise.complete(account);
-            });
-        });
+        var template = getRetrievalTemplate(provider);
+        return execute(pool, "account.get." + provider, template, Tuple.of(id))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\"", template, cause))
+                .map(rows -> {
+                    if (rows.size() == 0) {
+                        log.debug("Query \"{}\" produced no result", template);
+                        return null;
+                    }
+
+                    var result = rows.iterator().next();
+                    var account = new JsonObject()
+                            .put("accountId", result.getString(0))
+                            .put("name", result.getString(1))
+                            .put("emailAddress", result.getString(2));
+                    log.debug("Query \"{}\" produced result \"{}\"", template, account);
+                    return account;
+                });
     }
 
     private String getRetrievalTemplate(String provider) {
@@ -123,55 +116,29 @@ public class ExternalAccountVerticle extends AbstractEntityVerticle {
     }
 
     private Future<Void> updateStatisticsForAccount(String accountId) {
-        return Future.future(promise -> {
-            var params = new JsonArray().add(toUuid(accountId));
-            sqlClient.querySingleWithParams(UPDATE_STATISTICS_TEMPLATE, params, asyncResult -> {
-                if (asyncResult.failed()) {
-                    var cause = asyncResult.cause();
-                    log.error("Unable to execute query \"{}\"", UPDATE_STATISTICS_TEMPLATE, cause);
-                    promise.fail(asyncResult.cause());
-                    return;
-                }
-
-                promise.complete();
-            });
-        });
+        return execute(pool, "account.updateStatistics", UPDATE_STATISTICS_TEMPLATE, Tuple.of(toUuid(accountId)))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\"", UPDATE_STATISTICS_TEMPLATE, cause))
+                .mapEmpty();
     }
 
-    private Future<String> createAccount(SQLConnection connection, String name, String emailAddress) {
-        return Future.future(promise -> {
-            var params = new JsonArray().add(name).add(emailAddress);
-            connection.updateWithParams(CREATE_ACCOUNT_TEMPLATE, params, asyncResult -> {
-                if (asyncResult.failed()) {
-                    var cause = asyncResult.cause();
-                    log.error("Unable to execute query \"{}\"", CREATE_ACCOUNT_TEMPLATE, cause);
-                    promise.fail(cause);
-                    return;
-                }
-
-                var accountId = asyncResult.result().getKeys().getString(5).replace("-", "");
-                log.debug("Query \"{}\" produced result \"{}\"", CREATE_ACCOUNT_TEMPLATE, accountId);
-                promise.complete(accountId);
-            });
-        });
+    private Future<String> createAccount(SqlConnection connection, String name, String emailAddress) {
+        return execute(connection, "account.create", CREATE_ACCOUNT_TEMPLATE, Tuple.of(name, emailAddress))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\"", CREATE_ACCOUNT_TEMPLATE, cause))
+                .map(rows -> {
+                    var accountId = rows.iterator().next().getString("account_id");
+                    log.debug("Query \"{}\" produced result \"{}\"", CREATE_ACCOUNT_TEMPLATE, accountId);
+                    return accountId;
+                });
     }
 
-    private Future<String> linkAccountWithExternalId(SQLConnection connection, String accountId, String externalId, String provider) {
-        return Future.future(promise -> {
-            var template = getCreationTemplate(provider);
-            var params = new JsonArray().add(toUuid(accountId)).add(externalId);
-            connection.updateWithParams(template, params, asyncResult -> {
-                if (asyncResult.failed()) {
-                    var cause = asyncResult.cause();
-                    log.error("Unable to execute query \"{}\"", template, cause);
-                    promise.fail(cause);
-                    return;
-                }
-
-                log.debug("Query \"{}\" executed successfully", template);
-                promise.complete(accountId);
-            });
-        });
+    private Future<String> linkAccountWithExternalId(SqlConnection connection, String accountId, String externalId, String provider) {
+        var template = getCreationTemplate(provider);
+        return execute(connection, "account.link." + provider, template, Tuple.of(toUuid(accountId), externalId))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\"", template, cause))
+                .map(rows -> {
+                    log.debug("Query \"{}\" executed successfully", template);
+                    return accountId;
+                });
     }
 
     private String getCreationTemplate(String provider) {
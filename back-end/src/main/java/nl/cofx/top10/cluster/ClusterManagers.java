@@ -0,0 +1,45 @@
+package nl.cofx.top10.cluster;
+
+import java.util.List;
+
+import com.hazelcast.config.Config;
+
+import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.spi.cluster.hazelcast.ConfigUtil;
+import io.vertx.spi.cluster.hazelcast.HazelcastClusterManager;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class ClusterManagers {
+
+    private static final String LOOPBACK_ADDRESS = "127.0.0.1";
+
+    public ClusterManager hazelcast(String clusterName, List<String> members) {
+        return new HazelcastClusterManager(hazelcastConfig(clusterName, members));
+    }
+
+    public ClusterManager embeddedHazelcast(String clusterName) {
+        var hazelcastConfig = hazelcastConfig(clusterName, List.of(LOOPBACK_ADDRESS))
+                .setProperty("hazelcast.phone.home.enabled", "false")
+                .setProperty("hazelcast.shutdownhook.enabled", "false");
+        hazelcastConfig.getNetworkConfig().getInterfaces()
+                .setEnabled(true)
+                .addInterface(LOOPBACK_ADDRESS);
+
+        return new HazelcastClusterManager(hazelcastConfig);
+    }
+
+    private Config hazelcastConfig(String clusterName, List<String> members) {
+        var hazelcastConfig = ConfigUtil.loadConfig().setClusterName(clusterName);
+
+        if (!members.isEmpty()) {
+            var joinConfig = hazelcastConfig.getNetworkConfig().getJoin();
+            joinConfig.getMulticastConfig().setEnabled(false);
+            joinConfig.getTcpIpConfig()
+                    .setEnabled(true)
+                    .setMembers(members);
+        }
+
+        return hazelcastConfig;
+    }
+}
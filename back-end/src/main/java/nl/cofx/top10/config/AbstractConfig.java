@@ -1,5 +1,8 @@
 package nl.cofx.top10.config;
 
+import java.util.Arrays;
+import java.util.List;
+
 import javax.crypto.SecretKey;
 
 import org.apache.commons.lang3.StringUtils;
@@ -20,6 +23,16 @@ abstract public class AbstractConfig {
         return System.getenv(name);
     }
 
+    protected String fetchOptionalString(String name, String defaultValue) {
+        var value = fetchOptionalString(name);
+
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+
+        return value;
+    }
+
     protected String fetchMandatoryString(String name) {
         var value = System.getenv(name);
 
@@ -33,4 +46,47 @@ abstract public class AbstractConfig {
     protected int fetchMandatoryInt(String name) {
         return Integer.parseInt(fetchMandatoryString(name));
     }
+
+    protected int fetchOptionalInt(String name, int defaultValue) {
+        var value = fetchOptionalString(name);
+
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+
+        return Integer.parseInt(value);
+    }
+
+    protected double fetchOptionalDouble(String name, double defaultValue) {
+        var value = fetchOptionalString(name);
+
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+
+        return Double.parseDouble(value);
+    }
+
+    protected long fetchOptionalLong(String name, long defaultValue) {
+        var value = fetchOptionalString(name);
+
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+
+        return Long.parseLong(value);
+    }
+
+    protected List<String> fetchOptionalList(String name) {
+        var value = fetchOptionalString(name);
+
+        if (StringUtils.isBlank(value)) {
+            return List.of();
+        }
+
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .toList();
+    }
 }
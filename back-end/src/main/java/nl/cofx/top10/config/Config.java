@@ -1,12 +1,33 @@
 package nl.cofx.top10.config;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import javax.crypto.SecretKey;
 
 import io.vertx.core.VertxOptions;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.VertxTracerFactory;
+import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.tracing.TracingOptions;
+import nl.cofx.top10.cluster.ClusterManagers;
+import nl.cofx.top10.metrics.Meters;
+import nl.cofx.top10.tracing.Tracing;
+import nl.cofx.top10.tracing.TracingExporter;
 
 public interface Config {
 
+    double DEFAULT_SESSION_REFRESH_FRACTION = 0.5;
+    long DEFAULT_CSRF_TOKEN_ROTATION_AGE_IN_SECONDS = 60 * 60;
+    int DEFAULT_NUMBER_OF_INSTANCES = Runtime.getRuntime().availableProcessors();
+    String DEFAULT_CLUSTER_NAME = "top10";
+    int DEFAULT_METRICS_PORT = 9100;
+    double DEFAULT_TRACING_SAMPLING_RATIO = 0.1;
+    String DEFAULT_GOOGLE_OAUTH2_TOKEN_URL = "https://oauth2.googleapis.com/token";
+    String DEFAULT_MICROSOFT_OAUTH2_AUTHORITY_HOST = "https://login.microsoftonline.com";
+    String DEFAULT_MICROSOFT_GRAPH_URL = "https://graph.microsoft.com/v1.0";
+
     String getCsrfTarget();
 
     String getGoogleOauth2ClientId();
@@ -15,12 +36,24 @@ public interface Config {
 
     String getGoogleOauth2RedirectUri();
 
+    default String getGoogleOauth2TokenUrl() {
+        return DEFAULT_GOOGLE_OAUTH2_TOKEN_URL;
+    }
+
     String getMicrosoftOauth2ClientId();
 
     String getMicrosoftOauth2ClientSecret();
 
     String getMicrosoftOauth2RedirectUri();
 
+    default String getMicrosoftOauth2AuthorityHost() {
+        return DEFAULT_MICROSOFT_OAUTH2_AUTHORITY_HOST;
+    }
+
+    default String getMicrosoftGraphUrl() {
+        return DEFAULT_MICROSOFT_GRAPH_URL;
+    }
+
     int getHttpPort();
 
     String getJdbcUrl();
@@ -33,8 +66,59 @@ public interface Config {
 
     SecretKey getJwtSecretKey();
 
+    default double getSessionRefreshFraction() {
+        return DEFAULT_SESSION_REFRESH_FRACTION;
+    }
+
+    default long getCsrfTokenRotationAgeInSeconds() {
+        return DEFAULT_CSRF_TOKEN_ROTATION_AGE_IN_SECONDS;
+    }
+
+    default int getNumberOfHttpServerInstances() {
+        return DEFAULT_NUMBER_OF_INSTANCES;
+    }
+
+    default int getNumberOfEntityVerticleInstances() {
+        return DEFAULT_NUMBER_OF_INSTANCES;
+    }
+
+    default boolean isClustered() {
+        return false;
+    }
+
+    default Set<NodeRole> getNodeRoles() {
+        return EnumSet.allOf(NodeRole.class);
+    }
+
+    default ClusterManager getClusterManager() {
+        return ClusterManagers.hazelcast(DEFAULT_CLUSTER_NAME, List.of());
+    }
+
+    default int getMetricsPort() {
+        return DEFAULT_METRICS_PORT;
+    }
+
+    default TracingExporter getTracingExporter() {
+        return TracingExporter.NONE;
+    }
+
+    default String getTracingDestination() {
+        return null;
+    }
+
+    default double getTracingSamplingRatio() {
+        return DEFAULT_TRACING_SAMPLING_RATIO;
+    }
+
     default VertxOptions getVertxOptions() {
-        return new VertxOptions().setHAEnabled(true);
+        return new VertxOptions()
+                .setHAEnabled(true)
+                .setMetricsOptions(Meters.options(getMetricsPort()))
+                .setTracingOptions(getTracingExporter() == TracingExporter.NONE ? null : new TracingOptions());
+    }
+
+    default VertxTracerFactory getTracerFactory() {
+        return Tracing.tracerFactory(getTracingExporter(), getTracingDestination(), getTracingSamplingRatio());
     }
 
     boolean useSecureCookies();
@@ -0,0 +1,6 @@
+package nl.cofx.top10.config;
+
+public enum NodeRole {
+    HTTP,
+    ENTITY
+}
@@ -1,9 +1,18 @@
 package nl.cofx.top10.config;
 
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
 import javax.crypto.SecretKey;
 
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.cluster.ClusterManager;
 import lombok.Getter;
+import nl.cofx.top10.cluster.ClusterManagers;
+import nl.cofx.top10.postgresql.PostgreSql;
+import nl.cofx.top10.postgresql.SlowStatementLog;
+import nl.cofx.top10.tracing.TracingExporter;
 
 @Getter
 public class ProdConfig extends AbstractConfig implements Config {
@@ -12,21 +21,65 @@ public class ProdConfig extends AbstractConfig implements Config {
     private final String googleOauth2ClientId = fetchMandatoryString("GOOGLE_OAUTH2_CLIENT_ID");
     private final String googleOauth2ClientSecret = fetchMandatoryString("GOOGLE_OAUTH2_CLIENT_SECRET");
     private final String googleOauth2RedirectUri = fetchMandatoryString("GOOGLE_OAUTH2_REDIRECT_URI");
+    private final String googleOauth2TokenUrl = fetchOptionalString("GOOGLE_OAUTH2_TOKEN_URL", DEFAULT_GOOGLE_OAUTH2_TOKEN_URL);
     private final String microsoftOauth2ClientId = fetchMandatoryString("MICROSOFT_OAUTH2_CLIENT_ID");
     private final String microsoftOauth2ClientSecret = fetchMandatoryString("MICROSOFT_OAUTH2_CLIENT_SECRET");
     private final String microsoftOauth2RedirectUri = fetchMandatoryString("MICROSOFT_OAUTH2_REDIRECT_URI");
+    private final String microsoftOauth2AuthorityHost = fetchOptionalString("MICROSOFT_OAUTH2_AUTHORITY_HOST", DEFAULT_MICROSOFT_OAUTH2_AUTHORITY_HOST);
+    private final String microsoftGraphUrl = fetchOptionalString("MICROSOFT_GRAPH_URL", DEFAULT_MICROSOFT_GRAPH_URL);
     private final int httpPort = fetchMandatoryInt("HTTP_PORT");
     private final String jdbcUrl = fetchMandatoryString("JDBC_POSTGRES_URL");
     private final String jdbcUsername = fetchMandatoryString("JDBC_POSTGRES_USERNAME");
     private final String jdbcPassword = fetchOptionalString("JDBC_POSTGRES_PASSWORD");
     private final JsonObject jdbcOptions = fetchJdbcOptions();
     private final SecretKey jwtSecretKey = fetchJwtSecretKey("JWT_ENCODED_SECRET_KEY");
+    private final double sessionRefreshFraction = fetchOptionalDouble("SESSION_REFRESH_FRACTION", DEFAULT_SESSION_REFRESH_FRACTION);
+    private final long csrfTokenRotationAgeInSeconds = fetchOptionalLong("CSRF_TOKEN_ROTATION_AGE_IN_SECONDS", DEFAULT_CSRF_TOKEN_ROTATION_AGE_IN_SECONDS);
+    private final int numberOfHttpServerInstances = fetchOptionalInt("NUMBER_OF_HTTP_SERVER_INSTANCES", DEFAULT_NUMBER_OF_INSTANCES);
+    private final int numberOfEntityVerticleInstances = fetchOptionalInt("NUMBER_OF_ENTITY_VERTICLE_INSTANCES", DEFAULT_NUMBER_OF_INSTANCES);
+    private final boolean clustered = "true".equalsIgnoreCase(fetchOptionalString("CLUSTERED"));
+    private final Set<NodeRole> nodeRoles = fetchNodeRoles("NODE_ROLES");
+    private final int metricsPort = fetchOptionalInt("METRICS_PORT", DEFAULT_METRICS_PORT);
+    private final TracingExporter tracingExporter = fetchTracingExporter("TRACING_EXPORTER");
+    private final String tracingDestination = fetchOptionalString("TRACING_DESTINATION");
+    private final double tracingSamplingRatio = fetchOptionalDouble("TRACING_SAMPLING_RATIO", DEFAULT_TRACING_SAMPLING_RATIO);
 
     protected JsonObject fetchJdbcOptions() {
         return new JsonObject()
                 .put("url", jdbcUrl)
                 .put("user", jdbcUsername)
-                .put("password", jdbcPassword);
+                .put("password", jdbcPassword)
+                .put("connection_timeout_in_millis", fetchOptionalInt("CONNECTION_TIMEOUT_IN_MILLIS", PostgreSql.DEFAULT_CONNECTION_TIMEOUT_IN_MILLIS))
+                .put("slow_statement_threshold_in_millis", fetchOptionalLong("SLOW_STATEMENT_THRESHOLD_IN_MILLIS", SlowStatementLog.DEFAULT_THRESHOLD_IN_MILLIS))
+                .put("explain_slow_statements", "true".equalsIgnoreCase(fetchOptionalString("EXPLAIN_SLOW_STATEMENTS")));
+    }
+
+    protected Set<NodeRole> fetchNodeRoles(String name) {
+        var roleNames = fetchOptionalList(name);
+
+        if (roleNames.isEmpty()) {
+            return EnumSet.allOf(NodeRole.class);
+        }
+
+        var nodeRoles = EnumSet.noneOf(NodeRole.class);
+        roleNames.forEach(roleName -> nodeRoles.add(NodeRole.valueOf(roleName.toUpperCase(Locale.ROOT))));
+        return nodeRoles;
+    }
+
+    protected TracingExporter fetchTracingExporter(String name) {
+        var exporterName = fetchOptionalString(name);
+
+        if (exporterName == null) {
+            return TracingExporter.NONE;
+        }
+
+        return TracingExporter.valueOf(exporterName.toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    public ClusterManager getClusterManager() {
+        var clusterName = fetchOptionalString("CLUSTER_NAME");
+        return ClusterManagers.hazelcast(clusterName == null ? DEFAULT_CLUSTER_NAME : clusterName, fetchOptionalList("CLUSTER_MEMBERS"));
     }
 
     @Override
@@ -1,83 +1,51 @@
 package nl.cofx.top10.entity;
 
+import io.opentelemetry.api.trace.Span;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
-import io.vertx.ext.sql.SQLClient;
-import io.vertx.ext.sql.SQLConnection;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.SqlConnection;
 import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.postgresql.SqlMetrics;
+import nl.cofx.top10.tracing.Tracing;
 
 import java.util.function.Function;
 
 @Slf4j
 public abstract class AbstractEntityVerticle extends AbstractVerticle {
 
-    protected SQLClient sqlClient;
+    protected Pool pool;
 
-    protected <T> Future<T> withConnection(Function<SQLConnection, Future<T>> query) {
-        return Future.future(promise ->
-                sqlClient.getConnection(asyncConnection -> {
-                    if (asyncConnection.failed()) {
-                        var cause = asyncConnection.cause();
-                        log.error("Unable to get connection", cause);
-                        promise.fail(cause);
-                        return;
-                    }
-
-                    var connection = asyncConnection.result();
-                    query.apply(connection).onComplete(queryResult -> {
-                        connection.close();
-                        promise.handle(queryResult);
-                    });
-                }));
+    protected <T> Future<T> withConnection(Function<SqlConnection, Future<T>> query) {
+        return Tracing.inSpan("sql.withConnection", span -> getConnection(span)
+                .compose(connection -> Tracing.inScope(span, () -> query.apply(connection))
+                        .onComplete(queryResult -> close(connection))));
     }
 
-    protected <T> Future<T> withTransaction(Function<SQLConnection, Future<T>> query) {
-        return Future.future(promise ->
-                sqlClient.getConnection(asyncConnection -> {
-                    if (asyncConnection.failed()) {
-                        var cause = asyncConnection.cause();
-                        log.error("Unable to get connection", cause);
-                        promise.fail(cause);
-                        return;
-                    }
-
-                    var connection = asyncConnection.result();
-                    connection.setAutoCommit(false, asyncAutoCommit -> {
-                        if (asyncAutoCommit.failed()) {
-                            var cause = asyncAutoCommit.cause();
-                            log.error("Unable to disable auto commit", cause);
-                            connection.close();
-                            promise.fail(cause);
-                            return;
-                        }
-
-                        log.debug("Successfully disabled auto commit");
-                        query.apply(connection).onSuccess(t -> connection.commit(asyncCommit -> {
-                            if (asyncCommit.failed()) {
-                                var cause = asyncCommit.cause();
-                                log.error("Unable to commit transaction", cause);
-                                connection.close();
-                                promise.fail(cause);
-                                return;
-                            }
+    protected <T> Future<T> withTransaction(Function<SqlConnection, Future<T>> query) {
+        return Tracing.inSpan("sql.withTransaction", span -> getConnection(span)
+                .compose(connection -> connection.begin()
+                        .onFailure(cause -> log.error("Unable to begin transaction", cause))
+                        .compose(transaction -> Tracing.inScope(span, () -> query.apply(connection)).compose(
+                                t -> transaction.commit()
+                                        .onSuccess(nothing -> log.debug("Successfully committed transaction"))
+                                        .onFailure(cause -> log.error("Unable to commit transaction", cause))
+                                        .map(t),
+                                queryCause -> transaction.rollback()
+                                        .onSuccess(nothing -> log.debug("Successfully rolled back transaction"))
+                                        .onFailure(cause -> log.error("Unable to rollback transaction", cause))
+                                        .transform(rollbackResult -> Future.<T>failedFuture(queryCause))))
+                        .onComplete(transactionResult -> close(connection))));
+    }
 
-                            log.debug("Successfully committed transaction");
-                            connection.close();
-                            promise.complete(t);
-                        })).onFailure(queryCause -> connection.rollback(asyncRollback -> {
-                            if (asyncRollback.failed()) {
-                                var cause = asyncRollback.cause();
-                                log.error("Unable to rollback transaction", cause);
-                                connection.close();
-                                promise.fail(cause);
-                                return;
-                            }
+    private Future<SqlConnection> getConnection(Span span) {
+        return SqlMetrics.timeConnectionAcquisition(pool.getConnection())
+                .onSuccess(connection -> span.addEvent("connection acquired"))
+                .onFailure(cause -> log.error("Unable to get connection", cause));
+    }
 
-                            log.debug("Successfully rolled back transaction");
-                            connection.close();
-                            promise.fail(queryCause);
-                        }));
-                    });
-                }));
+    private void close(SqlConnection connection) {
+        SqlMetrics.releaseConnection();
+        connection.close();
     }
 }
@@ -0,0 +1,66 @@
+package nl.cofx.top10.entity;
+
+import io.micrometer.core.instrument.Counter;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.metrics.Meters;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SingleFlight<T> {
+
+    static final String CALL_COUNTER = "top10.singleflight.calls";
+    static final String NAME_TAG = "name";
+    static final String EXECUTED = "executed";
+    static final String COALESCED = "coalesced";
+
+    private final Map<String, Future<T>> inFlight = new HashMap<>();
+
+    private final String name;
+
+    public Future<T> execute(String key, Supplier<Future<T>> execution) {
+        return execute(key, execution, result -> {});
+    }
+
+    public Future<T> execute(String key, Supplier<Future<T>> execution, Handler<T> currentResultHandler) {
+        var pending = inFlight.get(key);
+        if (pending != null) {
+            log.debug("Joining {} for \"{}\" in flight", name, key);
+            count(COALESCED);
+            return pending;
+        }
+
+        count(EXECUTED);
+        var future = execution.get();
+        inFlight.put(key, future);
+        future.onComplete(asyncResult -> {
+            if (inFlight.remove(key, future) && asyncResult.succeeded()) {
+                currentResultHandler.handle(asyncResult.result());
+            }
+        });
+
+        return future;
+    }
+
+    public void forget(String key) {
+        inFlight.remove(key);
+    }
+
+    int getNumberInFlight() {
+        return inFlight.size();
+    }
+
+    private void count(String outcome) {
+        Counter.builder(CALL_COUNTER)
+                .tag(NAME_TAG, name)
+                .tag(Meters.OUTCOME_TAG, outcome)
+                .register(Meters.registry())
+                .increment();
+    }
+}
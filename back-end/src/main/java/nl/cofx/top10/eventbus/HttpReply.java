@@ -0,0 +1,58 @@
+package nl.cofx.top10.eventbus;
+
+import java.util.function.Function;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.ext.web.RoutingContext;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class HttpReply {
+
+    public static final String REPLY_MODE_HEADER = "reply-mode";
+    public static final String HTTP_BODY_REPLY_MODE = "http-body";
+    public static final String STATUS_CODE_HEADER = "status-code";
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    public DeliveryOptions requestHttpBody() {
+        return new DeliveryOptions().addHeader(REPLY_MODE_HEADER, HTTP_BODY_REPLY_MODE);
+    }
+
+    public boolean isHttpBodyRequested(Message<?> request) {
+        return HTTP_BODY_REPLY_MODE.equals(request.headers().get(REPLY_MODE_HEADER));
+    }
+
+    public <T> void reply(Message<?> request, T body, Function<T, Buffer> toHttpBody) {
+        reply(request, body, toHttpBody, Function.identity());
+    }
+
+    public <T> void reply(Message<?> request, T body, Function<T, Buffer> toHttpBody, Function<T, ?> toMessageBody) {
+        if (isHttpBodyRequested(request)) {
+            request.reply(toHttpBody.apply(body), new DeliveryOptions()
+                    .addHeader(STATUS_CODE_HEADER, "200")
+                    .addHeader(CONTENT_TYPE_HEADER, APPLICATION_JSON));
+        } else {
+            request.reply(toMessageBody.apply(body));
+        }
+    }
+
+    public void end(Message<?> reply, RoutingContext routingContext) {
+        var statusCode = reply.headers().get(STATUS_CODE_HEADER);
+        var contentType = reply.headers().get(CONTENT_TYPE_HEADER);
+
+        var response = routingContext.response();
+        if (statusCode != null) {
+            response.setStatusCode(Integer.parseInt(statusCode));
+        }
+
+        if (contentType != null) {
+            response.putHeader(CONTENT_TYPE_HEADER, contentType);
+        }
+
+        response.end((Buffer) reply.body());
+    }
+}
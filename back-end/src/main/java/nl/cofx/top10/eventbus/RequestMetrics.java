@@ -0,0 +1,55 @@
+package nl.cofx.top10.eventbus;
+
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import lombok.experimental.UtilityClass;
+import nl.cofx.top10.metrics.Meters;
+
+@UtilityClass
+public class RequestMetrics {
+
+    static final String REQUEST_TIMER = "top10.eventbus.requests";
+    static final String ADDRESS_TAG = "address";
+
+    public <T> Handler<AsyncResult<Message<T>>> timed(String address, Handler<AsyncResult<Message<T>>> replyHandler) {
+        var sample = Timer.start();
+        return reply -> {
+            stop(sample, address, reply);
+            replyHandler.handle(reply);
+        };
+    }
+
+    public <T> Future<Message<T>> timed(String address, Future<Message<T>> reply) {
+        var sample = Timer.start();
+        return reply.onComplete(result -> stop(sample, address, result));
+    }
+
+    static String outcome(AsyncResult<?> reply) {
+        if (reply.succeeded()) {
+            return Meters.SUCCESS;
+        }
+
+        if (reply.cause() instanceof ReplyException replyException) {
+            if (replyException.failureType() == ReplyFailure.RECIPIENT_FAILURE) {
+                return String.valueOf(replyException.failureCode());
+            }
+
+            return replyException.failureType().name().toLowerCase();
+        }
+
+        return "error";
+    }
+
+    private void stop(Timer.Sample sample, String address, AsyncResult<?> reply) {
+        sample.stop(Timer.builder(REQUEST_TIMER)
+                .tag(ADDRESS_TAG, address)
+                .tag(Meters.OUTCOME_TAG, outcome(reply))
+                .publishPercentileHistogram()
+                .register(Meters.registry()));
+    }
+}
@@ -10,9 +10,15 @@ import javax.crypto.SecretKey;
 public class Jwt {
 
     private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public Jwt(SecretKey secretKey) {
+        this(secretKey, null);
+    }
+
+    public Jwt(SecretKey secretKey, VerifiedTokenCache verifiedTokenCache) {
         jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public Jws<Claims> getJws(String token) {
@@ -20,8 +26,20 @@ public class Jwt {
             return null;
         }
 
+        if (verifiedTokenCache != null) {
+            var cachedJws = verifiedTokenCache.get(token);
+            if (cachedJws != null) {
+                return cachedJws;
+            }
+        }
+
         try {
-            return jwtParser.parseSignedClaims(token);
+            var jws = jwtParser.parseSignedClaims(token);
+            if (verifiedTokenCache != null) {
+                verifiedTokenCache.put(token, jws);
+            }
+
+            return jws;
         } catch (Exception e) {
             return null;
         }
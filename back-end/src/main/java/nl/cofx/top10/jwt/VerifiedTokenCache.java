@@ -0,0 +1,115 @@
+package nl.cofx.top10.jwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.metrics.Meters;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class VerifiedTokenCache {
+
+    static final String GET_COUNTER = "cache.gets";
+    static final String EVICTION_COUNTER = "cache.evictions";
+    static final String HIT_RATE_GAUGE = "cache.hit.rate";
+    static final String CACHE_TAG = "cache";
+    static final String RESULT_TAG = "result";
+    static final String HIT = "hit";
+    static final String MISS = "miss";
+
+    private static final String DEFAULT_NAME = "jwt";
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<String, Jws<Claims>> cache;
+    private final Clock clock;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    public VerifiedTokenCache() {
+        this(DEFAULT_NAME, DEFAULT_MAXIMUM_SIZE, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(String name, long maximumSize, Clock clock) {
+        this.clock = clock;
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        var registry = Meters.registry();
+        FunctionCounter.builder(GET_COUNTER, this, VerifiedTokenCache::getHitCount)
+                .tag(CACHE_TAG, name)
+                .tag(RESULT_TAG, HIT)
+                .register(registry);
+        FunctionCounter.builder(GET_COUNTER, this, VerifiedTokenCache::getMissCount)
+                .tag(CACHE_TAG, name)
+                .tag(RESULT_TAG, MISS)
+                .register(registry);
+        FunctionCounter.builder(EVICTION_COUNTER, this, VerifiedTokenCache::getEvictionCount)
+                .tag(CACHE_TAG, name)
+                .register(registry);
+        Gauge.builder(HIT_RATE_GAUGE, this, VerifiedTokenCache::getHitRate)
+                .tag(CACHE_TAG, name)
+                .register(registry);
+    }
+
+    public Jws<Claims> get(String token) {
+        var digest = digest(token);
+        var jws = cache.getIfPresent(digest);
+        if (jws == null) {
+            missCount.increment();
+            return null;
+        }
+
+        var expiration = jws.getPayload().getExpiration();
+        if (expiration != null && !expiration.toInstant().isAfter(clock.instant())) {
+            log.debug("Evicting expired token with subject \"{}\"", jws.getPayload().getSubject());
+            cache.invalidate(digest);
+            missCount.increment();
+            expirationCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return jws;
+    }
+
+    public void put(String token, Jws<Claims> jws) {
+        cache.put(digest(token), jws);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        var hits = getHitCount();
+        var requests = hits + getMissCount();
+        if (requests == 0) {
+            return 1.0;
+        }
+
+        return (double) hits / requests;
+    }
+
+    public long getEvictionCount() {
+        return cache.stats().evictionCount() + expirationCount.sum();
+    }
+
+    private static String digest(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+}
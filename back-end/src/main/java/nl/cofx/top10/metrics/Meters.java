@@ -0,0 +1,56 @@
+package nl.cofx.top10.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
+import lombok.experimental.UtilityClass;
+
+import java.util.EnumSet;
+
+@UtilityClass
+public class Meters {
+
+    public static final String METRICS_ENDPOINT = "/metrics";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String SUCCESS = "success";
+
+    public MetricsOptions options(int port) {
+        if (port <= 0) {
+            return new MetricsOptions().setEnabled(false);
+        }
+
+        var prometheusOptions = new VertxPrometheusOptions()
+                .setEnabled(true)
+                .setStartEmbeddedServer(true)
+                .setEmbeddedServerOptions(new HttpServerOptions().setPort(port))
+                .setEmbeddedServerEndpoint(METRICS_ENDPOINT)
+                .setPublishQuantiles(true);
+
+        return new MicrometerMetricsOptions()
+                .setEnabled(true)
+                .setPrometheusOptions(prometheusOptions)
+                .setLabels(EnumSet.of(
+                        Label.HTTP_ROUTE,
+                        Label.HTTP_METHOD,
+                        Label.HTTP_CODE,
+                        Label.EB_ADDRESS,
+                        Label.EB_FAILURE,
+                        Label.EB_SIDE,
+                        Label.POOL_TYPE,
+                        Label.POOL_NAME));
+    }
+
+    public MeterRegistry registry() {
+        var registry = BackendRegistries.getDefaultNow();
+        if (registry == null) {
+            return Metrics.globalRegistry;
+        }
+
+        return registry;
+    }
+}
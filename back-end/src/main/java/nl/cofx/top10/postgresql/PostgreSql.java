@@ -1,39 +1,103 @@
 package nl.cofx.top10.postgresql;
 
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.pgclient.PgBuilder;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.Tuple;
 import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.tracing.Tracing;
 import org.postgresql.util.PGobject;
 
+import java.net.URI;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class PostgreSql {
 
-    public static PGobject toUuids(List<String> ids) {
-        try {
-            var pgObject = new PGobject();
-            pgObject.setType("uuid[]");
-            pgObject.setValue("{" + String.join(",", ids) + "}");
+    public static final int DEFAULT_CONNECTION_TIMEOUT_IN_MILLIS = 30_000;
 
-            return pgObject;
-        } catch (SQLException exception) {
-            log.error("Unable to create PgObject for UUIDs {}", ids, exception);
-            throw new IllegalStateException(exception);
+    private static final String POOL_NAME = "top10";
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+    private static final String JDBC_URL_PREFIX = "jdbc:";
+    private static final String DB_SYSTEM_ATTRIBUTE = "db.system";
+    private static final String DB_SYSTEM = "postgresql";
+
+    public static Pool pool(Vertx vertx, JsonObject jdbcOptions) {
+        var poolOptions = new PoolOptions()
+                .setShared(true)
+                .setName(POOL_NAME)
+                .setMaxSize(jdbcOptions.getInteger("max_pool_size", DEFAULT_MAX_POOL_SIZE))
+                .setConnectionTimeout(jdbcOptions.getInteger("connection_timeout_in_millis", DEFAULT_CONNECTION_TIMEOUT_IN_MILLIS))
+                .setConnectionTimeoutUnit(TimeUnit.MILLISECONDS);
+
+        var pool = PgBuilder.pool()
+                .with(poolOptions)
+                .connectingTo(toPgConnectOptions(jdbcOptions))
+                .using(vertx)
+                .build();
+        SlowStatementLog.configure(pool, jdbcOptions);
+
+        return pool;
+    }
+
+    public static PgConnectOptions toPgConnectOptions(JsonObject jdbcOptions) {
+        var jdbcUrl = jdbcOptions.getString("url");
+        if (jdbcUrl == null || !jdbcUrl.startsWith(JDBC_URL_PREFIX)) {
+            throw new IllegalStateException(String.format("Invalid JDBC URL: \"%s\"", jdbcUrl));
+        }
+
+        var uri = URI.create(jdbcUrl.substring(JDBC_URL_PREFIX.length()));
+        var connectOptions = new PgConnectOptions()
+                .setHost(uri.getHost())
+                .setDatabase(uri.getPath().substring(1))
+                .setUser(jdbcOptions.getString("user"))
+                .setPassword(jdbcOptions.getString("password"))
+                .setCachePreparedStatements(true)
+                .setPipeliningLimit(jdbcOptions.getInteger("pipelining_limit", PgConnectOptions.DEFAULT_PIPELINING_LIMIT));
+
+        if (uri.getPort() != -1) {
+            connectOptions.setPort(uri.getPort());
         }
+
+        return connectOptions;
     }
 
-    public static PGobject toUuid(String id) {
-        try {
-            var pgObject = new PGobject();
-            pgObject.setType("uuid");
-            pgObject.setValue(id);
+    public static Future<RowSet<Row>> execute(SqlClient client, String name, String template, Tuple parameters) {
+        return Tracing.inSpan("sql." + name, span -> {
+            span.setAttribute(DB_SYSTEM_ATTRIBUTE, DB_SYSTEM);
+            return SqlMetrics.timeQuery(name, SlowStatementLog.timed(name, template, parameters, () -> client.preparedQuery(template).execute(parameters)));
+        });
+    }
 
-            return pgObject;
-        } catch (SQLException exception) {
-            log.error("Unable to create PgObject for UUID {}", id, exception);
-            throw new IllegalStateException(exception);
+    public static UUID[] toUuids(List<String> ids) {
+        return ids.stream()
+                .map(PostgreSql::toUuid)
+                .toArray(UUID[]::new);
+    }
+
+    public static UUID toUuid(String id) {
+        if (id == null) {
+            return null;
         }
+
+        if (id.length() == 32) {
+            var mostSignificantBits = Long.parseUnsignedLong(id, 0, 16, 16);
+            var leastSignificantBits = Long.parseUnsignedLong(id, 16, 32, 16);
+            return new UUID(mostSignificantBits, leastSignificantBits);
+        }
+
+        return UUID.fromString(id);
     }
 
     public static PGobject toTimestamptz(Instant instant) {
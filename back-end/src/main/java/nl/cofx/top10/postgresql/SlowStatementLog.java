@@ -0,0 +1,106 @@
+package nl.cofx.top10.postgresql;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@Slf4j
+@UtilityClass
+public class SlowStatementLog {
+
+    public static final long DEFAULT_THRESHOLD_IN_MILLIS = 500;
+
+    private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-?[0-9a-fA-F]{4}-?[0-9a-fA-F]{4}-?[0-9a-fA-F]{4}-?[0-9a-fA-F]{12}");
+    private static final int REDACTED_UUID_PREFIX_LENGTH = 8;
+    private static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS) ";
+
+    private volatile long thresholdInNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_THRESHOLD_IN_MILLIS);
+    private volatile Pool explainPool;
+    private final Set<String> explainedStatements = ConcurrentHashMap.newKeySet();
+
+    public void configure(Pool pool, JsonObject jdbcOptions) {
+        thresholdInNanos = TimeUnit.MILLISECONDS.toNanos(jdbcOptions.getLong("slow_statement_threshold_in_millis", DEFAULT_THRESHOLD_IN_MILLIS));
+        explainPool = jdbcOptions.getBoolean("explain_slow_statements", false) ? pool : null;
+    }
+
+    public Future<RowSet<Row>> timed(String name, String template, Tuple parameters, Supplier<Future<RowSet<Row>>> execution) {
+        var start = System.nanoTime();
+        return execution.get().onSuccess(rows -> {
+            var elapsedInNanos = System.nanoTime() - start;
+            if (elapsedInNanos < thresholdInNanos) {
+                return;
+            }
+
+            log.warn("Statement \"{}\" took {} ms and produced {} rows for parameters {}", name, TimeUnit.NANOSECONDS.toMillis(elapsedInNanos), rows.rowCount(), redact(parameters));
+            explain(name, template, parameters);
+        });
+    }
+
+    private void explain(String name, String template, Tuple parameters) {
+        var pool = explainPool;
+        if (pool == null || !isQuery(template) || !explainedStatements.add(name)) {
+            return;
+        }
+
+        pool.preparedQuery(EXPLAIN_PREFIX + template).execute(parameters)
+                .onSuccess(rows -> {
+                    var plan = StreamSupport.stream(rows.spliterator(), false)
+                            .map(row -> row.getString(0))
+                            .collect(Collectors.joining("\n"));
+                    log.warn("Statement \"{}\" has plan\n{}", name, plan);
+                })
+                .onFailure(cause -> {
+                    log.error("Unable to explain statement \"{}\"", name, cause);
+                    explainedStatements.remove(name);
+                });
+    }
+
+    static boolean isQuery(String template) {
+        return template.stripLeading().toUpperCase(Locale.ROOT).startsWith("SELECT");
+    }
+
+    static List<Object> redact(Tuple parameters) {
+        var redactedParameters = new ArrayList<>(parameters.size());
+        for (var i = 0; i < parameters.size(); ++i) {
+            redactedParameters.add(redactValue(parameters.getValue(i)));
+        }
+
+        return redactedParameters;
+    }
+
+    private Object redactValue(Object parameter) {
+        if (parameter instanceof UUID uuid) {
+            return redactValue(uuid.toString());
+        }
+
+        if (parameter instanceof Object[] elements) {
+            return Arrays.stream(elements)
+                    .map(SlowStatementLog::redactValue)
+                    .toList();
+        }
+
+        if (parameter instanceof String value && UUID_PATTERN.matcher(value).matches()) {
+            return value.substring(0, REDACTED_UUID_PREFIX_LENGTH) + "...";
+        }
+
+        return parameter;
+    }
+}
@@ -0,0 +1,86 @@
+package nl.cofx.top10.postgresql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import lombok.experimental.UtilityClass;
+import nl.cofx.top10.metrics.Meters;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@UtilityClass
+public class SqlMetrics {
+
+    static final String QUERY_TIMER = "top10.sql.queries";
+    static final String CONNECTION_ACQUISITION_TIMER = "top10.sql.connections.acquisition";
+    static final String CONNECTION_TIMEOUT_COUNTER = "top10.sql.connections.timeouts";
+    static final String CONNECTIONS_IN_USE_GAUGE = "top10.sql.connections.in.use";
+    static final String QUERY_TAG = "query";
+    static final String TIMEOUT = "timeout";
+    static final String FAILURE = "failure";
+
+    private static final String POOL_TIMEOUT_MESSAGE = "Timeout";
+
+    private final AtomicInteger connectionsInUse = new AtomicInteger();
+
+    public <T> Future<T> timeQuery(String name, Future<T> execution) {
+        var sample = Timer.start();
+        return execution.onComplete(result -> sample.stop(Timer.builder(QUERY_TIMER)
+                .tag(QUERY_TAG, name)
+                .tag(Meters.OUTCOME_TAG, outcome(result))
+                .publishPercentileHistogram()
+                .register(Meters.registry())));
+    }
+
+    public <T> Future<T> timeConnectionAcquisition(Future<T> acquisition) {
+        var registry = Meters.registry();
+        Gauge.builder(CONNECTIONS_IN_USE_GAUGE, connectionsInUse, AtomicInteger::get).register(registry);
+
+        var sample = Timer.start();
+        return acquisition.onComplete(result -> {
+            var outcome = outcome(result);
+            sample.stop(Timer.builder(CONNECTION_ACQUISITION_TIMER)
+                    .tag(Meters.OUTCOME_TAG, outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+
+            if (result.succeeded()) {
+                connectionsInUse.incrementAndGet();
+            } else if (TIMEOUT.equals(outcome)) {
+                Counter.builder(CONNECTION_TIMEOUT_COUNTER).register(registry).increment();
+            }
+        });
+    }
+
+    public void releaseConnection() {
+        connectionsInUse.decrementAndGet();
+    }
+
+    int getConnectionsInUse() {
+        return connectionsInUse.get();
+    }
+
+    private boolean isTimeout(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return true;
+        }
+
+        return cause instanceof NoStackTraceThrowable && POOL_TIMEOUT_MESSAGE.equals(cause.getMessage());
+    }
+
+    private String outcome(AsyncResult<?> result) {
+        if (result.succeeded()) {
+            return Meters.SUCCESS;
+        }
+
+        if (isTimeout(result.cause())) {
+            return TIMEOUT;
+        }
+
+        return FAILURE;
+    }
+}
@@ -1,21 +1,28 @@
 package nl.cofx.top10.quiz;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.vertx.core.Future;
 import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.jdbc.JDBCClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.ForbiddenException;
 import nl.cofx.top10.NotFoundException;
 import nl.cofx.top10.entity.AbstractEntityVerticle;
+import nl.cofx.top10.eventbus.HttpReply;
+import nl.cofx.top10.eventbus.RequestMetrics;
+import nl.cofx.top10.postgresql.PostgreSql;
 import nl.cofx.top10.quiz.dto.ListDto;
 import nl.cofx.top10.quiz.dto.ListsDto;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.stream.Collectors;
 
+import static nl.cofx.top10.quiz.QuizEntityVerticle.QUIZ_COMPLETED_ADDRESS;
+
 @Slf4j
 @RequiredArgsConstructor
 public class ListEntityVerticle extends AbstractEntityVerticle {
@@ -28,56 +35,34 @@ public class ListEntityVerticle extends AbstractEntityVerticle {
     public static final String FINALIZE_LIST_ADDRESS = "entity.list.finalize";
     public static final String ASSIGN_LIST_ADDRESS = "entity.list.assign";
 
+    private static final long MAXIMUM_NUMBER_OF_CACHED_LISTS = 10_000;
+
     private final ListRepository listRepository = new ListRepository();
     private final QuizRepository quizRepository = new QuizRepository();
+    private final Cache<String, ListDto> lists = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_NUMBER_OF_CACHED_LISTS)
+            .build();
 
     private final JsonObject jdbcOptions;
+    private final QuizMetadataCache quizMetadataCache;
+
+    public ListEntityVerticle(JsonObject jdbcOptions) {
+        this(jdbcOptions, new QuizMetadataCache());
+    }
 
     @Override
     public void start() {
         log.info("Starting");
 
-        sqlClient = JDBCClient.createShared(vertx, jdbcOptions);
+        pool = PostgreSql.pool(vertx, jdbcOptions);
 
-        vertx.eventBus().consumer(GET_ALL_LISTS_FOR_QUIZ_ADDRESS, this::handleGetAll);
         vertx.eventBus().consumer(GET_ALL_LISTS_FOR_ACCOUNT_ADDRESS, this::handleGetAllForAccount);
         vertx.eventBus().consumer(GET_ONE_LIST_ADDRESS, this::handleGetOne);
         vertx.eventBus().consumer(ADD_VIDEO_ADDRESS, this::handleAddVideo);
         vertx.eventBus().consumer(DELETE_VIDEO_ADDRESS, this::handleDeleteVideo);
         vertx.eventBus().consumer(FINALIZE_LIST_ADDRESS, this::handleFinalizeList);
         vertx.eventBus().consumer(ASSIGN_LIST_ADDRESS, this::handleAssignList);
-    }
-
-    private void handleGetAll(Message<JsonObject> getAllListsRequest) {
-        var body = getAllListsRequest.body();
-        var quizId = body.getString("quizId");
-        var accountId = body.getString("accountId");
-
-        withTransaction(connection ->
-                listRepository.getAllListsForQuiz(connection, quizId, accountId).compose(listDtos -> {
-                    var listIds = listDtos.stream()
-                            .map(ListDto::getId)
-                            .collect(Collectors.toList());
-                    return listRepository.getAssignments(connection, accountId, listIds)
-                            .compose(assignmentsForLists -> Future.succeededFuture(listDtos.stream()
-                                    .map(listDto -> {
-                                        var listId = listDto.getId();
-                                        var assignment = assignmentsForLists.get(listId);
-                                        if (assignment != null) {
-                                            return listDto.toBuilder()
-                                                    .assigneeName(assignment.getAssigneeName())
-                                                    .assigneeId(assignment.getAssigneeId())
-                                                    .build();
-                                        } else {
-                                            return listDto;
-                                        }
-                                    }).collect(Collectors.toList())));
-                }))
-                .onSuccess(listDtos ->
-                        getAllListsRequest.reply(ListsDto.builder()
-                                .lists(listDtos)
-                                .build()))
-                .onFailure(cause -> handleFailure(cause, getAllListsRequest));
+        vertx.eventBus().<String>consumer(QUIZ_COMPLETED_ADDRESS, quizCompleted -> quizMetadataCache.invalidate(quizCompleted.body()));
     }
 
     private void handleGetAllForAccount(Message<String> getAllListsForAccountRequest) {
@@ -94,7 +79,9 @@ public class ListEntityVerticle extends AbstractEntityVerticle {
                                             .build())
                                     .collect(Collectors.toList())));
                 }))
-                .onSuccess(listDtos -> getAllListsForAccountRequest.reply(ListsDto.builder().lists(listDtos).build()))
+                .onSuccess(listDtos -> HttpReply.reply(getAllListsForAccountRequest, ListsDto.builder()
+                        .lists(listDtos)
+                        .build(), listsDto -> sanitize(listsDto).toBuffer()))
                 .onFailure(cause -> handleFailure(cause, getAllListsForAccountRequest));
     }
 
@@ -103,28 +90,31 @@ public class ListEntityVerticle extends AbstractEntityVerticle {
         var listId = body.getString("listId");
         var accountId = body.getString("accountId");
 
-        withTransaction(connection -> listRepository.getList(connection, listId, accountId)
-                .compose(list ->
-                        listRepository.getAssignments(connection, accountId, Collections.singletonList(listId)).compose(assignments -> {
-                            var assignment = assignments.get(listId);
-                            if (assignment != null) {
-                                return Future.succeededFuture(list.toBuilder()
-                                        .assigneeId(assignments.get(listId).getAssigneeId())
-                                        .assigneeName(assignments.get(listId).getAssigneeName())
-                                        .build());
-                            } else {
-                                return Future.succeededFuture(list);
-                            }
-                        })).compose(list ->
-                        listRepository.validateAccountCanAccessList(connection, accountId, listId).compose(accountCanAccessList ->
-                                listRepository.getVideosForLists(connection, Collections.singletonList(list.getId())).compose(videosForList ->
-                                        Future.succeededFuture(list.toBuilder()
-                                                .videos(videosForList.getOrDefault(listId, Collections.emptyList()))
-                                                .build())))))
-                .onSuccess(getOneListRequest::reply)
+        withConnection(connection -> listRepository.getListDetail(connection, listId, accountId))
+                .onSuccess(listDto -> HttpReply.reply(getOneListRequest, listDto, list -> sanitize(list).toBuffer()))
                 .onFailure(cause -> handleFailure(cause, getOneListRequest));
     }
 
+    private ListsDto sanitize(ListsDto listsDto) {
+        return listsDto.toBuilder()
+                .clearLists()
+                .lists(listsDto.getLists().stream()
+                        .map(this::sanitize)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private ListDto sanitize(ListDto listDto) {
+        if (listDto.isActiveQuiz()) {
+            return listDto.toBuilder()
+                    .creatorId(null)
+                    .creatorName(null)
+                    .build();
+        }
+
+        return listDto;
+    }
+
     private void handleAddVideo(Message<JsonObject> addVideoRequest) {
         var body = addVideoRequest.body();
         var listId = body.getString("listId");
@@ -143,7 +133,7 @@ public class ListEntityVerticle extends AbstractEntityVerticle {
                         return Future.failedFuture(new ForbiddenException(String.format("List \"%s\" is finalized", listId)));
                     } else {
                         var quizId = listDto.getQuizId();
-                        return quizRepository.getQuiz(connection, quizId, accountId).compose(quizDto -> {
+                        return quizMetadataCache.get(quizId, () -> quizRepository.getQuiz(connection, quizId, accountId)).compose(quizDto -> {
                             if (!quizDto.isActive()) {
                                 log.debug("Quiz \"{}\" has ended", quizId);
                                 return Future.failedFuture(new ForbiddenException(String.format("Quiz \"%s\" has ended", quizId)));
@@ -184,66 +174,49 @@ public class ListEntityVerticle extends AbstractEntityVerticle {
     }
 
     private void handleFinalizeList(Message<JsonObject> finalizeListRequest) {
-        var body = finalizeListRequest.body();
-        var accountId = body.getString("accountId");
-        var listId = body.getString("listId");
-
-        withTransaction(connection ->
-                listRepository.getList(connection, listId, accountId).compose(listDto -> {
-                    if (!accountId.equals(listDto.getCreatorId())) {
-                        return Future.failedFuture(new ForbiddenException(String.format("Account \"%s\" did not create list \"%s\"", accountId, listId)));
-                    } else {
-                        var quizId = listDto.getQuizId();
-                        return quizRepository.getQuiz(connection, quizId, accountId).compose(quizDto -> {
-                            if (quizDto.getDeadline().isBefore(Instant.now())) {
-                                log.debug("Deadline for quiz \"{}\" has passed", quizId);
-                                return Future.failedFuture(new ForbiddenException(String.format("Deadline for quiz \"%s\" has passed", quizId)));
-                            } else if (!quizDto.isActive()) {
-                                log.debug("Quiz \"{}\" has ended", quizId);
-                                return Future.failedFuture(new ForbiddenException(String.format("Quiz \"%s\" has ended", quizId)));
-                            } else {
-                                return listRepository.finalizeList(connection, listId);
-                            }
-                        });
-                    }
-                }))
-                .onSuccess(finalizeListRequest::reply)
-                .onFailure(cause -> handleFailure(cause, finalizeListRequest));
+        forwardToQuizShard(FINALIZE_LIST_ADDRESS, finalizeListRequest);
     }
 
     private void handleAssignList(Message<JsonObject> assignListRequest) {
-        var body = assignListRequest.body();
-        var accountId = body.getString("accountId");
+        forwardToQuizShard(ASSIGN_LIST_ADDRESS, assignListRequest);
+    }
+
+    private void forwardToQuizShard(String address, Message<JsonObject> request) {
+        var body = request.body();
         var listId = body.getString("listId");
-        var assigneeId = body.getString("assigneeId");
+        var accountId = body.getString("accountId");
 
-        withTransaction(connection ->
-                listRepository.getList(connection, listId, accountId).compose(listDto -> {
-                    if (listDto.getHasDraftStatus()) {
-                        log.debug("User \"{}\" cannot assign \"{}\" to non-finalized list \"{}\"", accountId, assigneeId, listId);
-                        return Future.failedFuture(new ForbiddenException(String.format("List \"%s\" has not been finalized yet", listId)));
-                    } else {
-                        var quizId = listDto.getQuizId();
-                        return quizRepository.getQuiz(connection, quizId, accountId).compose(quiz -> {
-                            if (quiz.isActive()) {
-                                return listRepository.validateAccountCanAccessList(connection, accountId, listId).compose(accountCanAccessList ->
-                                        listRepository.validateAccountParticipatesInQuiz(connection, assigneeId, quizId)
-                                                .compose(accountParticipatesInQuiz ->
-                                                        listRepository.assignList(connection, accountId, listId, assigneeId)));
-                            } else {
-                                log.debug("User \"{}\" cannot assign to list \"{}\" of completed quiz \"{}\"", accountId, listId, quizId);
-                                return Future.failedFuture(new ForbiddenException(String.format("Quiz \"%s\" is completed", quizId)));
-                            }
-                        });
-                    }
-                }))
-                .onSuccess(assignListRequest::reply)
-                .onFailure(cause -> handleFailure(cause, assignListRequest));
+        getList(listId, accountId)
+                .compose(listDto -> {
+                    var quizId = listDto.getQuizId();
+                    var forwardedRequest = body.copy()
+                            .put("listId", listDto.getId())
+                            .put("quizId", quizId);
+                    log.debug("Forwarding request for list \"{}\" to shard of quiz \"{}\"", listId, quizId);
+                    return RequestMetrics.timed(address, vertx.eventBus().request(QuizShards.address(address, quizId), forwardedRequest));
+                })
+                .onSuccess(reply -> request.reply(reply.body()))
+                .onFailure(cause -> handleFailure(cause, request));
+    }
+
+    private Future<ListDto> getList(String listId, String accountId) {
+        var listDto = lists.getIfPresent(listId);
+        if (listDto != null) {
+            return Future.succeededFuture(listDto);
+        }
+
+        return withConnection(connection -> listRepository.getList(connection, listId, accountId))
+                .onSuccess(retrievedListDto -> lists.put(listId, ListDto.builder()
+                        .id(retrievedListDto.getId())
+                        .quizId(retrievedListDto.getQuizId())
+                        .build()));
     }
 
     private <T> void handleFailure(Throwable cause, Message<T> message) {
         var errorMessage = cause.getMessage();
-        if (cause instanceof ForbiddenException) {
+        if (cause instanceof ReplyException replyException && replyException.failureType() == ReplyFailure.RECIPIENT_FAILURE) {
+            message.fail(replyException.failureCode(), errorMessage);
+        } else if (cause instanceof ForbiddenException) {
             message.fail(403, errorMessage);
         } else if (cause instanceof NotFoundException) {
             message.fail(404, errorMessage);
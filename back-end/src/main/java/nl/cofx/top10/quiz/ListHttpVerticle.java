@@ -13,13 +13,11 @@ import nl.cofx.top10.ForbiddenException;
 import nl.cofx.top10.InternalServerErrorException;
 import nl.cofx.top10.NotFoundException;
 import nl.cofx.top10.ValidationException;
-import nl.cofx.top10.quiz.dto.ListDto;
-import nl.cofx.top10.quiz.dto.ListsDto;
+import nl.cofx.top10.eventbus.HttpReply;
+import nl.cofx.top10.eventbus.RequestMetrics;
 import nl.cofx.top10.url.YouTubeUrl;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.stream.Collectors;
-
 import static nl.cofx.top10.quiz.ListEntityVerticle.*;
 
 @Slf4j
@@ -56,40 +54,16 @@ public class ListHttpVerticle extends AbstractVerticle {
         log.debug("Get all lists for quiz \"{}\"", quizId);
 
         var getRequest = new JsonObject().put("accountId", accountId).put("quizId", quizId);
-        vertx.eventBus().request(GET_ALL_LISTS_FOR_QUIZ_ADDRESS, getRequest, allListsReply -> {
+        vertx.eventBus().request(QuizShards.address(GET_ALL_LISTS_FOR_QUIZ_ADDRESS, quizId), getRequest, HttpReply.requestHttpBody(), RequestMetrics.timed(GET_ALL_LISTS_FOR_QUIZ_ADDRESS, allListsReply -> {
             if (allListsReply.failed()) {
                 handleFailure(allListsReply.cause(), routingContext);
                 return;
             }
 
-            var listsDto = (ListsDto) allListsReply.result().body();
-            log.debug("Retrieved {} lists", listsDto.getLists().size());
-            var sanitizedListsDto = sanitize(listsDto);
+            log.debug("Retrieved lists for quiz \"{}\"", quizId);
 
-            routingContext.response()
-                    .putHeader("content-type", "application/json")
-                    .end(sanitizedListsDto.toJsonArray().toBuffer());
-        });
-    }
-
-    private ListsDto sanitize(ListsDto listsDto) {
-        return listsDto.toBuilder()
-                .clearLists()
-                .lists(listsDto.getLists().stream()
-                        .map(this::sanitize)
-                        .collect(Collectors.toList()))
-                .build();
-    }
-
-    private ListDto sanitize(ListDto listDto) {
-        if (listDto.isActiveQuiz()) {
-            return listDto.toBuilder()
-                    .creatorId(null)
-                    .creatorName(null)
-                    .build();
-        }
-
-        return listDto;
+            HttpReply.end(allListsReply.result(), routingContext);
+        }));
     }
 
     private void handleGetAllForAccount(RoutingContext routingContext) {
@@ -97,20 +71,16 @@ public class ListHttpVerticle extends AbstractVerticle {
 
         log.debug("Get all lists for account \"{}\"", accountId);
 
-        vertx.eventBus().request(GET_ALL_LISTS_FOR_ACCOUNT_ADDRESS, accountId, allListsReply -> {
+        vertx.eventBus().request(GET_ALL_LISTS_FOR_ACCOUNT_ADDRESS, accountId, HttpReply.requestHttpBody(), RequestMetrics.timed(GET_ALL_LISTS_FOR_ACCOUNT_ADDRESS, allListsReply -> {
             if (allListsReply.failed()) {
                 handleFailure(allListsReply.cause(), routingContext);
                 return;
             }
 
-            var listsDto = (ListsDto) allListsReply.result().body();
-            log.debug("Retrieved {} lists", listsDto.getLists().size());
-            var sanitizedListsDto = sanitize(listsDto);
+            log.debug("Retrieved lists for account \"{}\"", accountId);
 
-            routingContext.response()
-                    .putHeader("content-type", "application/json")
-                    .end(sanitizedListsDto.toJsonArray().toBuffer());
-        });
+            HttpReply.end(allListsReply.result(), routingContext);
+        }));
     }
 
     private void handleAddVideo(RoutingContext routingContext) {
@@ -119,7 +89,7 @@ public class ListHttpVerticle extends AbstractVerticle {
         var accountId = routingContext.user().principal().getString("accountId");
         var listId = routingContext.pathParam("listId");
         var addRequest = toAddRequest(accountId, listId, routingContext);
-        vertx.eventBus().request(ADD_VIDEO_ADDRESS, addRequest, addVideoReply -> {
+        vertx.eventBus().request(ADD_VIDEO_ADDRESS, addRequest, RequestMetrics.timed(ADD_VIDEO_ADDRESS, addVideoReply -> {
             if (addVideoReply.failed()) {
                 handleFailure(addVideoReply.cause(), routingContext);
                 return;
@@ -136,7 +106,7 @@ public class ListHttpVerticle extends AbstractVerticle {
                             .put("url", addRequest.getString("url"))
                             .put("referenceId", addRequest.getString("referenceId"))
                             .toBuffer());
-        });
+        }));
     }
 
     private void handleDeleteVideo(RoutingContext routingContext) {
@@ -147,7 +117,7 @@ public class ListHttpVerticle extends AbstractVerticle {
         var deleteRequest = new JsonObject()
                 .put("accountId", accountId)
                 .put("videoId", videoId);
-        vertx.eventBus().request(DELETE_VIDEO_ADDRESS, deleteRequest, deleteVideoReply -> {
+        vertx.eventBus().request(DELETE_VIDEO_ADDRESS, deleteRequest, RequestMetrics.timed(DELETE_VIDEO_ADDRESS, deleteVideoReply -> {
             if (deleteVideoReply.failed()) {
                 handleFailure(deleteVideoReply.cause(), routingContext);
                 return;
@@ -158,7 +128,7 @@ public class ListHttpVerticle extends AbstractVerticle {
             routingContext.response()
                     .setStatusCode(204)
                     .end();
-        });
+        }));
     }
 
     private JsonObject toAddRequest(String accountId, String listId, RoutingContext routingContext) {
@@ -201,20 +171,16 @@ public class ListHttpVerticle extends AbstractVerticle {
                 .put("listId", listId)
                 .put("accountId", accountId);
 
-        vertx.eventBus().request(GET_ONE_LIST_ADDRESS, getListRequest, listReply -> {
+        vertx.eventBus().request(GET_ONE_LIST_ADDRESS, getListRequest, HttpReply.requestHttpBody(), RequestMetrics.timed(GET_ONE_LIST_ADDRESS, listReply -> {
             if (listReply.failed()) {
                 handleFailure(listReply.cause(), routingContext);
                 return;
             }
 
-            var list = (ListDto) listReply.result().body();
-            log.debug("Retrieved list \"{}\"", list);
-            var sanitizedList = sanitize(list);
+            log.debug("Retrieved list \"{}\"", listId);
 
-            routingContext.response()
-                    .putHeader("content-type", "application/json")
-                    .end(sanitizedList.toJsonObject().toBuffer());
-        });
+            HttpReply.end(listReply.result(), routingContext);
+        }));
     }
 
     private void handleFinalize(RoutingContext routingContext) {
@@ -226,7 +192,7 @@ public class ListHttpVerticle extends AbstractVerticle {
         var finalizeRequest = new JsonObject()
                 .put("accountId", accountId)
                 .put("listId", listId);
-        vertx.eventBus().request(FINALIZE_LIST_ADDRESS, finalizeRequest, finalizeListReply -> {
+        vertx.eventBus().request(FINALIZE_LIST_ADDRESS, finalizeRequest, RequestMetrics.timed(FINALIZE_LIST_ADDRESS, finalizeListReply -> {
             if (finalizeListReply.failed()) {
                 handleFailure(finalizeListReply.cause(), routingContext);
                 return;
@@ -237,7 +203,7 @@ public class ListHttpVerticle extends AbstractVerticle {
             routingContext.response()
                     .setStatusCode(204)
                     .end();
-        });
+        }));
     }
 
     private void handleAssign(RoutingContext routingContext) {
@@ -246,7 +212,7 @@ public class ListHttpVerticle extends AbstractVerticle {
         var accountId = routingContext.user().principal().getString("accountId");
         var assignRequest = toAssignRequest(accountId, routingContext);
 
-        vertx.eventBus().request(ASSIGN_LIST_ADDRESS, assignRequest, assignReply -> {
+        vertx.eventBus().request(ASSIGN_LIST_ADDRESS, assignRequest, RequestMetrics.timed(ASSIGN_LIST_ADDRESS, assignReply -> {
             if (assignReply.failed()) {
                 handleFailure(assignReply.cause(), routingContext);
                 return;
@@ -257,7 +223,7 @@ public class ListHttpVerticle extends AbstractVerticle {
             routingContext.response()
                     .setStatusCode(204)
                     .end();
-        });
+        }));
     }
 
     private JsonObject toAssignRequest(String accountId, RoutingContext routingContext) {
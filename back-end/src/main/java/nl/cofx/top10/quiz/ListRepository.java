@@ -1,11 +1,10 @@
 package nl.cofx.top10.quiz;
 
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
-import io.vertx.core.json.JsonArray;
-import io.vertx.ext.sql.SQLConnection;
-import lombok.SneakyThrows;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
 import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.ForbiddenException;
 import nl.cofx.top10.InternalServerErrorException;
@@ -21,158 +20,148 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static nl.cofx.top10.postgresql.PostgreSql.execute;
 import static nl.cofx.top10.postgresql.PostgreSql.toUuid;
 import static nl.cofx.top10.postgresql.PostgreSql.toUuids;
 
 @Slf4j
 public class ListRepository {
 
-    private static final String GET_ALL_LISTS_FOR_QUIZ_TEMPLATE =
+    static final String GET_ALL_LISTS_FOR_QUIZ_TEMPLATE =
             "SELECT replace(l.list_id::text, '-', '') AS list_id, replace(l.account_id::text, '-', '') AS creator_id, q.is_active FROM list l "
             + "JOIN quiz q ON l.quiz_id = q.quiz_id "
-            + "WHERE q.quiz_id = ? AND NOT l.has_draft_status "
+            + "WHERE q.quiz_id = $1 AND NOT l.has_draft_status "
             + "ORDER BY list_id";
-    private static final String GET_ALL_LISTS_FOR_ACCOUNT_TEMPLATE =
+    static final String GET_ALL_LISTS_FOR_ACCOUNT_TEMPLATE =
             "SELECT replace(l.list_id::text, '-', '') AS list_id, replace(l.account_id::text, '-', '') AS creator_id, q.is_active FROM list l "
             + "NATURAL JOIN quiz q "
-            + "WHERE l.account_id = ?";
-    private static final String GET_VIDEOS_FOR_LISTS_TEMPLATE = "SELECT v.video_id, replace(v.list_id::text, '-', '') AS list_id, v.url, v.reference_id FROM video v "
-                                                                + "WHERE v.list_id = ANY (?)";
-    private static final String ACCOUNT_CAN_ACCESS_LIST_TEMPLATE = "SELECT COUNT(l1.quiz_id) from list l1 "
-                                                                   + "JOIN list l2 ON l1.quiz_id = l2.quiz_id "
-                                                                   + "JOIN quiz q ON l1.quiz_id = q.quiz_id "
-                                                                   + "WHERE l1.account_id = ? AND l2.list_id = ? "
-                                                                   + "AND (q.deadline <= NOW() OR l1.list_id = l2.list_id)";
-    private static final String ACCOUNT_PARTICIPATES_IN_QUIZ_TEMPLATE = "SELECT COUNT(l.account_id) FROM list l "
-                                                                        + "JOIN account a ON l.account_id = a.account_id "
-                                                                        + "WHERE a.account_id = ? AND l.quiz_id = ?";
-    private static final String GET_ONE_LIST_TEMPLATE =
-            "SELECT replace(l.list_id::text, '-', '') AS list_id, l.has_draft_status, replace(l.quiz_id::text, '-', '') AS quiz_id, q.is_active, replace(l.account_id::text, '-', '') AS creator_id, a.name AS creator_name FROM video v "
-            + "NATURAL RIGHT JOIN list l "
+            + "WHERE l.account_id = $1";
+    static final String GET_VIDEOS_FOR_LISTS_TEMPLATE = "SELECT v.video_id::text AS video_id, replace(v.list_id::text, '-', '') AS list_id, v.url, v.reference_id FROM video v "
+                                                        + "WHERE v.list_id = ANY ($1)";
+    static final String ACCOUNT_CAN_ACCESS_LIST_TEMPLATE = "SELECT COUNT(l1.quiz_id) from list l1 "
+                                                           + "JOIN list l2 ON l1.quiz_id = l2.quiz_id "
+                                                           + "JOIN quiz q ON l1.quiz_id = q.quiz_id "
+                                                           + "WHERE l1.account_id = $1 AND l2.list_id = $2 "
+                                                           + "AND (q.deadline <= NOW() OR l1.list_id = l2.list_id)";
+    static final String ACCOUNT_PARTICIPATES_IN_QUIZ_TEMPLATE = "SELECT COUNT(l.account_id) FROM list l "
+                                                                + "JOIN account a ON l.account_id = a.account_id "
+                                                                + "WHERE a.account_id = $1 AND l.quiz_id = $2";
+    static final String GET_ONE_LIST_TEMPLATE =
+            "SELECT replace(l.list_id::text, '-', '') AS list_id, l.has_draft_status, replace(l.quiz_id::text, '-', '') AS quiz_id, q.is_active, replace(l.account_id::text, '-', '') AS creator_id, a.name AS creator_name FROM list l "
             + "NATURAL JOIN quiz q "
             + "JOIN account a ON a.account_id = l.account_id "
-            + "WHERE l.list_id = ?";
-    private static final String GET_ASSIGNMENTS_TEMPLATE =
+            + "WHERE l.list_id = $1";
+    static final String GET_LIST_DETAIL_TEMPLATE =
+            "SELECT replace(l.list_id::text, '-', '') AS list_id, l.has_draft_status, replace(l.quiz_id::text, '-', '') AS quiz_id, q.is_active, "
+            + "replace(l.account_id::text, '-', '') AS creator_id, creator.name AS creator_name, "
+            + "replace(assignee.account_id::text, '-', '') AS assignee_id, assignee.name AS assignee_name, "
+            + "EXISTS ("
+            + "  SELECT 1 FROM list own "
+            + "  WHERE own.account_id = $2 AND own.quiz_id = l.quiz_id "
+            + "  AND (q.deadline <= NOW() OR own.list_id = l.list_id)"
+            + ") AS account_can_access_list, "
+            + "("
+            + "  SELECT COALESCE(json_agg(json_build_object('id', v.video_id::text, 'url', v.url, 'referenceId', v.reference_id)), '[]'::json) FROM video v "
+            + "  WHERE v.list_id = l.list_id"
+            + ") AS videos "
+            + "FROM list l "
+            + "JOIN quiz q ON q.quiz_id = l.quiz_id "
+            + "JOIN account creator ON creator.account_id = l.account_id "
+            + "LEFT JOIN assignment ass ON ass.list_id = l.list_id AND ass.account_id = $2 "
+            + "LEFT JOIN account assignee ON assignee.account_id = ass.assignee_id "
+            + "WHERE l.list_id = $1";
+    static final String GET_ASSIGNMENTS_TEMPLATE =
             "SELECT replace(ass.list_id::text, '-', '') AS list_id, replace(acc.account_id::text, '-', '') AS account_id, acc.name FROM assignment ass "
             + "JOIN account acc ON ass.assignee_id = acc.account_id "
-            + "WHERE ass.list_id = ANY (?) AND ass.account_id = ?";
-    private static final String GET_LIST_BY_VIDEO_ID_TEMPLATE =
+            + "WHERE ass.list_id = ANY ($1) AND ass.account_id = $2";
+    static final String GET_LIST_BY_VIDEO_ID_TEMPLATE =
             "SELECT replace(l.list_id::text, '-', '') AS list_id, l.has_draft_status, replace(l.quiz_id::text, '-', '') AS quiz_id, replace(l.account_id::text, '-', '') AS account_id FROM video v "
             + "NATURAL RIGHT JOIN list l "
             + "NATURAL JOIN quiz q "
-            + "WHERE v.video_id = ?";
-    private static final String ADD_VIDEO_TEMPLATE = "INSERT INTO video (list_id, url, reference_id) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
-    private static final String DELETE_VIDEO_TEMPLATE = "DELETE FROM video WHERE video_id = ?";
-    private static final String FINALIZE_LIST_TEMPLATE = "UPDATE list SET has_draft_status = false WHERE list_id = ?";
-    private static final String ASSIGN_LIST_TEMPLATE = "INSERT INTO assignment (list_id, account_id, assignee_id) "
-                                                       + "VALUES (?, ?, ?) "
-                                                       + "ON CONFLICT (list_id, account_id) DO "
-                                                       + "UPDATE SET assignee_id = EXCLUDED.assignee_id";
-
-    public Future<List<ListDto>> getAllListsForQuiz(SQLConnection connection, String quizId, String accountId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(quizId));
-            connection.queryWithParams(GET_ALL_LISTS_FOR_QUIZ_TEMPLATE, parameters, asyncLists -> {
-                if (asyncLists.failed()) {
-                    handleFailure(promise, GET_ALL_LISTS_FOR_QUIZ_TEMPLATE, parameters, asyncLists);
-                    return;
-                }
-
-                log.debug("Retrieved all lists for quiz \"{}\"", quizId);
-
-                var listDtos = asyncLists.result().getRows().stream()
-                        .map(row -> {
-                            return ListDto.builder()
-                                    .id(row.getString("list_id"))
-                                    .isOwnList(accountId.equals(row.getString("creator_id")))
-                                    .isActiveQuiz(row.getBoolean("is_active"))
-                                    .build();
-                        })
-                        .collect(Collectors.toList());
-
-                promise.complete(listDtos);
-            });
-        });
+            + "WHERE v.video_id = $1";
+    static final String ADD_VIDEO_TEMPLATE = "INSERT INTO video (list_id, url, reference_id) VALUES ($1, $2, $3) ON CONFLICT DO NOTHING "
+                                             + "RETURNING video_id::text AS video_id";
+    static final String DELETE_VIDEO_TEMPLATE = "DELETE FROM video WHERE video_id = $1";
+    static final String FINALIZE_LIST_TEMPLATE = "UPDATE list SET has_draft_status = false WHERE list_id = $1";
+    static final String ASSIGN_LIST_TEMPLATE = "INSERT INTO assignment (list_id, account_id, assignee_id) "
+                                               + "VALUES ($1, $2, $3) "
+                                               + "ON CONFLICT (list_id, account_id) DO "
+                                               + "UPDATE SET assignee_id = EXCLUDED.assignee_id";
+
+    public Future<List<ListDto>> getAllListsForQuiz(SqlConnection connection, String quizId, String accountId) {
+        var parameters = Tuple.of(toUuid(quizId));
+        return execute(connection, "list.getAllForQuiz", GET_ALL_LISTS_FOR_QUIZ_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(GET_ALL_LISTS_FOR_QUIZ_TEMPLATE, parameters, cause))
+                .map(rows -> {
+                    log.debug("Retrieved all lists for quiz \"{}\"", quizId);
+
+                    return toListDtos(rows, accountId);
+                });
     }
 
-    private <T1, T2> void handleFailure(Promise<T1> promise, String template, JsonArray parameters, AsyncResult<T2> asyncResult) {
-        var cause = asyncResult.cause();
-        log.error("Unable to execute query \"{}\" with parameters \"{}\"", template, parameters, cause);
-        promise.fail(cause);
+    private List<ListDto> toListDtos(RowSet<Row> rows, String accountId) {
+        var listDtos = new ArrayList<ListDto>(rows.size());
+        rows.forEach(row -> listDtos.add(ListDto.builder()
+                .id(row.getString("list_id"))
+                .isOwnList(accountId.equals(row.getString("creator_id")))
+                .isActiveQuiz(row.getBoolean("is_active"))
+                .build()));
+
+        return listDtos;
     }
 
-    public Future<List<ListDto>> getAllListsForAccount(SQLConnection connection, String accountId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(accountId));
-            connection.queryWithParams(GET_ALL_LISTS_FOR_ACCOUNT_TEMPLATE, parameters, asyncLists -> {
-                if (asyncLists.failed()) {
-                    handleFailure(promise, GET_ALL_LISTS_FOR_ACCOUNT_TEMPLATE, parameters, asyncLists);
-                    return;
-                }
-
-                log.debug("Retrieved all lists for account");
-
-                var listDtos = asyncLists.result().getRows().stream()
-                        .map(row -> {
-                            return ListDto.builder()
-                                    .id(row.getString("list_id"))
-                                    .isOwnList(accountId.equals(row.getString("creator_id")))
-                                    .isActiveQuiz(row.getBoolean("is_active"))
-                                    .build();
-                        })
-                        .collect(Collectors.toList());
-
-                promise.complete(listDtos);
-            });
-        });
+    private void logFailure(String template, Tuple parameters, Throwable cause) {
+        log.error("Unable to execute query \"{}\" with parameters \"{}\"", template, parameters.deepToString(), cause);
     }
 
-    @SneakyThrows
-    public Future<Map<String, List<VideoDto>>> getVideosForLists(SQLConnection connection, List<String> listIds) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuids(listIds));
-            connection.queryWithParams(GET_VIDEOS_FOR_LISTS_TEMPLATE, parameters, asyncVideos -> {
-                if (asyncVideos.failed()) {
-                    handleFailure(promise, GET_VIDEOS_FOR_LISTS_TEMPLATE, parameters, asyncVideos);
-                    return;
-                }
-
-                log.debug("Retrieved all videos for lists");
-
-                Map<String, List<VideoDto>> videosForLists = listIds.stream()
-                        .collect(Collectors.toMap(Function.identity(), i -> new ArrayList<>()));
-
-                asyncVideos.result().getRows().forEach(row -> {
-                    var listId = row.getString("list_id");
-                    var videoDto = VideoDto.builder()
-                            .id(row.getString("video_id"))
-                            .url(row.getString("url"))
-                            .referenceId(row.getString("reference_id"))
-                            .build();
-                    videosForLists.get(listId).add(videoDto);
+    public Future<List<ListDto>> getAllListsForAccount(SqlConnection connection, String accountId) {
+        var parameters = Tuple.of(toUuid(accountId));
+        return execute(connection, "list.getAllForAccount", GET_ALL_LISTS_FOR_ACCOUNT_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(GET_ALL_LISTS_FOR_ACCOUNT_TEMPLATE, parameters, cause))
+                .map(rows -> {
+                    log.debug("Retrieved all lists for account");
+
+                    return toListDtos(rows, accountId);
                 });
+    }
 
-                promise.complete(videosForLists);
-            });
-        });
+    public Future<Map<String, List<VideoDto>>> getVideosForLists(SqlConnection connection, List<String> listIds) {
+        var parameters = Tuple.of(toUuids(listIds));
+        return execute(connection, "list.getVideos", GET_VIDEOS_FOR_LISTS_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(GET_VIDEOS_FOR_LISTS_TEMPLATE, parameters, cause))
+                .map(rows -> {
+                    log.debug("Retrieved all videos for lists");
+
+                    Map<String, List<VideoDto>> videosForLists = listIds.stream()
+                            .collect(Collectors.toMap(Function.identity(), i -> new ArrayList<>()));
+
+                    rows.forEach(row -> {
+                        var listId = row.getString("list_id");
+                        var videoDto = VideoDto.builder()
+                                .id(row.getString("video_id"))
+                                .url(row.getString("url"))
+                                .referenceId(row.getString("reference_id"))
+                                .build();
+                        videosForLists.computeIfAbsent(listId, key -> new ArrayList<>()).add(videoDto);
+                    });
+
+                    return videosForLists;
+                });
     }
 
-    public Future<ListDto> getList(SQLConnection connection, String listId, String accountId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(listId));
-            connection.querySingleWithParams(GET_ONE_LIST_TEMPLATE, parameters, asyncList -> {
-                if (asyncList.failed()) {
-                    handleFailure(promise, GET_ONE_LIST_TEMPLATE, parameters, asyncList);
-                    return;
-                }
-
-                log.debug("Retrieved list");
-
-                var row = asyncList.result();
-                if (row == null) {
-                    log.debug("List \"{}\" not found", listId);
-                    promise.fail(new NotFoundException(String.format("List \"%s\" not found", listId)));
-                } else {
+    public Future<ListDto> getList(SqlConnection connection, String listId, String accountId) {
+        var parameters = Tuple.of(toUuid(listId));
+        return execute(connection, "list.getOne", GET_ONE_LIST_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(GET_ONE_LIST_TEMPLATE, parameters, cause))
+                .compose(rows -> {
+                    log.debug("Retrieved list");
+
+                    if (rows.size() == 0) {
+                        log.debug("List \"{}\" not found", listId);
+                        return Future.failedFuture(new NotFoundException(String.format("List \"%s\" not found", listId)));
+                    }
+
+                    var row = rows.iterator().next();
                     var creatorId = row.getString(4);
                     var listDto = ListDto.builder()
                             .id(row.getString(0))
@@ -184,55 +173,79 @@ public class ListRepository {
                             .isOwnList(accountId.equals(creatorId))
                             .build();
                     log.debug("Retrieved list by ID \"{}\": \"{}\"", listId, listDto);
-                    promise.complete(listDto);
-                }
-            });
-        });
+                    return Future.succeededFuture(listDto);
+                });
     }
 
-    public Future<Map<String, AssignmentDto>> getAssignments(SQLConnection connection, String accountId, List<String> listIds) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuids(listIds)).add(toUuid(accountId));
-            connection.queryWithParams(GET_ASSIGNMENTS_TEMPLATE, parameters, asyncAssignments -> {
-                if (asyncAssignments.failed()) {
-                    handleFailure(promise, GET_ASSIGNMENTS_TEMPLATE, parameters, asyncAssignments);
-                    return;
-                }
-
-                log.debug("Retrieved assignments");
-
-                var assignmentsForLists = new HashMap<String, AssignmentDto>();
-
-                asyncAssignments.result().getRows().forEach(row -> {
-                    var listId = row.getString("list_id");
-                    var assignmentDto = AssignmentDto.builder()
-                            .assigneeId(row.getString("account_id"))
-                            .assigneeName(row.getString("name"))
+    public Future<ListDto> getListDetail(SqlConnection connection, String listId, String accountId) {
+        var parameters = Tuple.of(toUuid(listId), toUuid(accountId));
+        return execute(connection, "list.getDetail", GET_LIST_DETAIL_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(GET_LIST_DETAIL_TEMPLATE, parameters, cause))
+                .compose(rows -> {
+                    if (rows.size() == 0) {
+                        log.debug("List \"{}\" not found", listId);
+                        return Future.failedFuture(new NotFoundException(String.format("List \"%s\" not found", listId)));
+                    }
+
+                    var row = rows.iterator().next();
+                    if (!row.getBoolean("account_can_access_list")) {
+                        log.debug("Account cannot access list");
+                        return Future.failedFuture(new ForbiddenException(String.format("Account \"%s\" cannot access list \"%s\"", accountId, listId)));
+                    }
+
+                    var creatorId = row.getString("creator_id");
+                    var listDto = ListDto.builder()
+                            .id(row.getString("list_id"))
+                            .hasDraftStatus(row.getBoolean("has_draft_status"))
+                            .quizId(row.getString("quiz_id"))
+                            .isActiveQuiz(row.getBoolean("is_active"))
+                            .creatorId(creatorId)
+                            .creatorName(row.getString("creator_name"))
+                            .isOwnList(accountId.equals(creatorId))
+                            .assigneeId(row.getString("assignee_id"))
+                            .assigneeName(row.getString("assignee_name"))
+                            .videos(VideoDto.fromJsonArray(row.getJsonArray("videos")))
                             .build();
-                    assignmentsForLists.put(listId, assignmentDto);
+                    log.debug("Retrieved details of list \"{}\": \"{}\"", listId, listDto);
+                    return Future.succeededFuture(listDto);
                 });
+    }
 
-                promise.complete(assignmentsForLists);
-            });
-        });
+    public Future<Map<String, AssignmentDto>> getAssignments(SqlConnection connection, String accountId, List<String> listIds) {
+        var parameters = Tuple.of(toUuids(listIds), toUuid(accountId));
+        return execute(connection, "list.getAssignments", GET_ASSIGNMENTS_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(GET_ASSIGNMENTS_TEMPLATE, parameters, cause))
+                .map(rows -> {
+                    log.debug("Retrieved assignments");
+
+                    var assignmentsForLists = new HashMap<String, AssignmentDto>();
+
+                    rows.forEach(row -> {
+                        var listId = row.getString("list_id");
+                        var assignmentDto = AssignmentDto.builder()
+                                .assigneeId(row.getString("account_id"))
+                                .assigneeName(row.getString("name"))
+                                .build();
+                        assignmentsForLists.put(listId, assignmentDto);
+                    });
+
+                    return assignmentsForLists;
+                });
     }
 
-    public Future<ListDto> getListByVideoId(SQLConnection connection, String videoId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(videoId));
-            connection.querySingleWithParams(GET_LIST_BY_VIDEO_ID_TEMPLATE, parameters, asyncList -> {
-                if (asyncList.failed()) {
-                    handleFailure(promise, GET_LIST_BY_VIDEO_ID_TEMPLATE, parameters, asyncList);
-                    return;
-                }
-
-                log.debug("Retrieved list by video ID");
-
-                var row = asyncList.result();
-                if (row == null) {
-                    log.debug("List for video \"{}\" not found", videoId);
-                    promise.fail(new NotFoundException(String.format("List for video \"%s\" not found", videoId)));
-                } else {
+    public Future<ListDto> getListByVideoId(SqlConnection connection, String videoId) {
+        var parameters = Tuple.of(toUuid(videoId));
+        return execute(connection, "list.getByVideoId", GET_LIST_BY_VIDEO_ID_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(GET_LIST_BY_VIDEO_ID_TEMPLATE, parameters, cause))
+                .compose(rows -> {
+                    log.debug("Retrieved list by video ID");
+
+                    if (rows.size() == 0) {
+                        log.debug("List for video \"{}\" not found", videoId);
+                        return Future.failedFuture(new NotFoundException(String.format("List for video \"%s\" not found", videoId)));
+                    }
+
+                    var row = rows.iterator().next();
                     var listDto = ListDto.builder()
                             .id(row.getString(0))
                             .hasDraftStatus(row.getBoolean(1))
@@ -240,136 +253,101 @@ public class ListRepository {
                             .creatorId(row.getString(3))
                             .build();
                     log.debug("Retrieved list by video \"{}\": \"{}\"", videoId, listDto);
-                    promise.complete(listDto);
-                }
-            });
-        });
+                    return Future.succeededFuture(listDto);
+                });
     }
 
-    public Future<String> addVideo(SQLConnection connection, String listId, String url, String referenceId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(listId)).add(url).add(referenceId);
-            connection.updateWithParams(ADD_VIDEO_TEMPLATE, parameters, asyncAddVideo -> {
-                if (asyncAddVideo.failed()) {
-                    handleFailure(promise, ADD_VIDEO_TEMPLATE, parameters, asyncAddVideo);
-                    return;
-                }
-
-                var numberOfAffectedRows = asyncAddVideo.result().getUpdated();
-                if (numberOfAffectedRows == 1) {
-                    log.debug("Added video");
-                    promise.complete(asyncAddVideo.result().getKeys().getString(2));
-                } else {
+    public Future<String> addVideo(SqlConnection connection, String listId, String url, String referenceId) {
+        var parameters = Tuple.of(toUuid(listId), url, referenceId);
+        return execute(connection, "list.addVideo", ADD_VIDEO_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(ADD_VIDEO_TEMPLATE, parameters, cause))
+                .compose(rows -> {
+                    var numberOfAffectedRows = rows.rowCount();
+                    if (numberOfAffectedRows == 1) {
+                        log.debug("Added video");
+                        return Future.succeededFuture(rows.iterator().next().getString("video_id"));
+                    }
+
                     log.debug("Unable to add video");
-                    promise.fail(new InternalServerErrorException(String.format("Updated \"%d\" rows when adding video", numberOfAffectedRows)));
-                }
-            });
-        });
+                    return Future.failedFuture(new InternalServerErrorException(String.format("Updated \"%d\" rows when adding video", numberOfAffectedRows)));
+                });
     }
 
-    public Future<Void> deleteVideo(SQLConnection connection, String videoId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(videoId));
-            connection.updateWithParams(DELETE_VIDEO_TEMPLATE, parameters, asyncDeleteVideo -> {
-                if (asyncDeleteVideo.failed()) {
-                    handleFailure(promise, DELETE_VIDEO_TEMPLATE, parameters, asyncDeleteVideo);
-                    return;
-                }
-
-                var numberOfAffectedRows = asyncDeleteVideo.result().getUpdated();
-                if (numberOfAffectedRows > 0) {
-                    log.debug("Deleted video");
-                } else {
-                    log.debug("Unable to delete video");
-                }
-
-                promise.complete();
-            });
-        });
+    public Future<Void> deleteVideo(SqlConnection connection, String videoId) {
+        var parameters = Tuple.of(toUuid(videoId));
+        return execute(connection, "list.deleteVideo", DELETE_VIDEO_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(DELETE_VIDEO_TEMPLATE, parameters, cause))
+                .map(rows -> {
+                    if (rows.rowCount() > 0) {
+                        log.debug("Deleted video");
+                    } else {
+                        log.debug("Unable to delete video");
+                    }
+
+                    return null;
+                });
     }
 
-    public Future<Void> finalizeList(SQLConnection connection, String listId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(listId));
-            connection.updateWithParams(FINALIZE_LIST_TEMPLATE, parameters, asyncFinalize -> {
-                if (asyncFinalize.failed()) {
-                    handleFailure(promise, FINALIZE_LIST_TEMPLATE, parameters, asyncFinalize);
-                    return;
-                }
-
-                var numberOfAffectedRows = asyncFinalize.result().getUpdated();
-                if (numberOfAffectedRows > 0) {
-                    log.debug("Finalized list");
-                } else {
-                    log.debug("Unable to finalize list");
-                }
-
-                promise.complete();
-            });
-        });
+    public Future<Void> finalizeList(SqlConnection connection, String listId) {
+        var parameters = Tuple.of(toUuid(listId));
+        return execute(connection, "list.finalize", FINALIZE_LIST_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(FINALIZE_LIST_TEMPLATE, parameters, cause))
+                .map(rows -> {
+                    if (rows.rowCount() > 0) {
+                        log.debug("Finalized list");
+                    } else {
+                        log.debug("Unable to finalize list");
+                    }
+
+                    return null;
+                });
     }
 
-    public Future<Void> assignList(SQLConnection connection, String accountId, String listId, String assigneeId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(listId)).add(toUuid(accountId)).add(toUuid(assigneeId));
-            connection.updateWithParams(ASSIGN_LIST_TEMPLATE, parameters, asyncAssignment -> {
-                if (asyncAssignment.failed()) {
-                    handleFailure(promise, ASSIGN_LIST_TEMPLATE, parameters, asyncAssignment);
-                    return;
-                }
-
-                var numberOfAffectedRows = asyncAssignment.result().getUpdated();
-                if (numberOfAffectedRows > 0) {
-                    log.debug("Assigned list");
-                } else {
-                    log.debug("Unable to assign list");
-                }
-
-                promise.complete();
-            });
-        });
+    public Future<Void> assignList(SqlConnection connection, String accountId, String listId, String assigneeId) {
+        var parameters = Tuple.of(toUuid(listId), toUuid(accountId), toUuid(assigneeId));
+        return execute(connection, "list.assign", ASSIGN_LIST_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(ASSIGN_LIST_TEMPLATE, parameters, cause))
+                .map(rows -> {
+                    if (rows.rowCount() > 0) {
+                        log.debug("Assigned list");
+                    } else {
+                        log.debug("Unable to assign list");
+                    }
+
+                    return null;
+                });
     }
 
-    public Future<Void> validateAccountCanAccessList(SQLConnection connection, String accountId, String listId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(accountId)).add(toUuid(listId));
-            connection.querySingleWithParams(ACCOUNT_CAN_ACCESS_LIST_TEMPLATE, parameters, asyncCanAccess -> {
-                if (asyncCanAccess.failed()) {
-                    handleFailure(promise, ACCOUNT_CAN_ACCESS_LIST_TEMPLATE, parameters, asyncCanAccess);
-                    return;
-                }
-
-                var accountCanAccessList = asyncCanAccess.result().getInteger(0) > 0;
-                if (accountCanAccessList) {
-                    log.debug("Account can access list");
-                    promise.complete();
-                } else {
+    public Future<Void> validateAccountCanAccessList(SqlConnection connection, String accountId, String listId) {
+        var parameters = Tuple.of(toUuid(accountId), toUuid(listId));
+        return execute(connection, "list.checkAccess", ACCOUNT_CAN_ACCESS_LIST_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(ACCOUNT_CAN_ACCESS_LIST_TEMPLATE, parameters, cause))
+                .compose(rows -> {
+                    var accountCanAccessList = rows.iterator().next().getLong(0) > 0;
+                    if (accountCanAccessList) {
+                        log.debug("Account can access list");
+                        return Future.succeededFuture();
+                    }
+
                     log.debug("Account cannot access list");
-                    promise.fail(new ForbiddenException(String.format("Account \"%s\" cannot access list \"%s\"", accountId, listId)));
-                }
-            });
-        });
+                    return Future.failedFuture(new ForbiddenException(String.format("Account \"%s\" cannot access list \"%s\"", accountId, listId)));
+                });
     }
 
-    public Future<Void> validateAccountParticipatesInQuiz(SQLConnection connection, String accountId, String quizId) {
-        return Future.future(promise -> {
-            var parameters = new JsonArray().add(toUuid(accountId)).add(toUuid(quizId));
-            connection.querySingleWithParams(ACCOUNT_PARTICIPATES_IN_QUIZ_TEMPLATE, parameters, asyncParticipatesInQuiz -> {
-                if (asyncParticipatesInQuiz.failed()) {
-                    handleFailure(promise, ACCOUNT_PARTICIPATES_IN_QUIZ_TEMPLATE, parameters, asyncParticipatesInQuiz);
-                    return;
-                }
-
-                var accountParticipatesInQuiz = asyncParticipatesInQuiz.result().getInteger(0) > 0;
-                if (accountParticipatesInQuiz) {
-                    log.debug("Account participates in quiz");
-                    promise.complete();
-                } else {
+    public Future<Void> validateAccountParticipatesInQuiz(SqlConnection connection, String accountId, String quizId) {
+        var parameters = Tuple.of(toUuid(accountId), toUuid(quizId));
+        return execute(connection, "list.checkParticipation", ACCOUNT_PARTICIPATES_IN_QUIZ_TEMPLATE, parameters)
+                .onFailure(cause -> logFailure(ACCOUNT_PARTICIPATES_IN_QUIZ_TEMPLATE, parameters, cause))
+                .compose(rows -> {
+                    var accountParticipatesInQuiz = rows.iterator().next().getLong(0) > 0;
+                    if (accountParticipatesInQuiz) {
+                        log.debug("Account participates in quiz");
+                        return Future.succeededFuture();
+                    }
+
                     log.debug("Account does not participate in quiz");
                     var message = String.format("Account \"%s\" does not participate in quiz \"%s\"", accountId, quizId);
-                    promise.fail(new ForbiddenException(message));
-                }
-            });
-        });
+                    return Future.failedFuture(new ForbiddenException(message));
+                });
     }
 }
@@ -1,9 +1,9 @@
 package nl.cofx.top10.quiz;
 
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.ReplyException;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
@@ -11,9 +11,8 @@ import io.vertx.ext.web.handler.BodyHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.*;
-import nl.cofx.top10.quiz.dto.QuizDto;
-import nl.cofx.top10.quiz.dto.QuizzesDto;
-import nl.cofx.top10.quiz.dto.ResultSummaryDto;
+import nl.cofx.top10.eventbus.HttpReply;
+import nl.cofx.top10.eventbus.RequestMetrics;
 import org.apache.commons.lang3.StringUtils;
 
 import java.time.Instant;
@@ -25,6 +24,11 @@ import static nl.cofx.top10.quiz.QuizEntityVerticle.*;
 public class QuizHttpVerticle extends AbstractVerticle {
 
     private final Router router;
+    private final QuizResultCache quizResultCache;
+
+    public QuizHttpVerticle(Router router) {
+        this(router, new QuizResultCache());
+    }
 
     @Override
     public void start() {
@@ -49,19 +53,16 @@ public class QuizHttpVerticle extends AbstractVerticle {
         log.debug("Get all quizzes");
 
         var accountId = routingContext.user().principal().getString("accountId");
-        vertx.eventBus().request(GET_ALL_QUIZZES_ADDRESS, accountId, allQuizzesReply -> {
+        vertx.eventBus().request(GET_ALL_QUIZZES_ADDRESS, accountId, HttpReply.requestHttpBody(), RequestMetrics.timed(GET_ALL_QUIZZES_ADDRESS, allQuizzesReply -> {
             if (allQuizzesReply.failed()) {
                 handleFailure(allQuizzesReply.cause(), routingContext);
                 return;
             }
 
-            var quizzesDto = (QuizzesDto) allQuizzesReply.result().body();
-            log.debug("Retrieved {} quizzes", quizzesDto.getQuizzes().size());
+            log.debug("Retrieved quizzes");
 
-            routingContext.response()
-                    .putHeader("content-type", "application/json")
-                    .end(quizzesDto.toJsonArray().toBuffer());
-        });
+            HttpReply.end(allQuizzesReply.result(), routingContext);
+        }));
     }
 
     private void handleCreate(RoutingContext routingContext) {
@@ -69,7 +70,7 @@ public class QuizHttpVerticle extends AbstractVerticle {
 
         var accountId = routingContext.user().principal().getString("accountId");
         var createRequest = toCreateRequest(accountId, routingContext);
-        vertx.eventBus().request(CREATE_QUIZ_ADDRESS, createRequest, createQuizReply -> {
+        vertx.eventBus().request(CREATE_QUIZ_ADDRESS, createRequest, RequestMetrics.timed(CREATE_QUIZ_ADDRESS, createQuizReply -> {
             if (createQuizReply.failed()) {
                 handleFailure(createQuizReply.cause(), routingContext);
                 return;
@@ -81,7 +82,7 @@ public class QuizHttpVerticle extends AbstractVerticle {
             routingContext.response()
                     .putHeader("content-type", "application/json")
                     .end(new JsonObject().put("id", quizId).toBuffer());
-        });
+        }));
     }
 
     private JsonObject toCreateRequest(String accountId, RoutingContext routingContext) {
@@ -136,19 +137,16 @@ public class QuizHttpVerticle extends AbstractVerticle {
         var getQuizRequest = new JsonObject()
                 .put("accountId", accountId)
                 .put("quizId", quizId);
-        vertx.eventBus().request(GET_ONE_QUIZ_ADDRESS, getQuizRequest, quizReply -> {
+        vertx.eventBus().request(QuizShards.address(GET_ONE_QUIZ_ADDRESS, quizId), getQuizRequest, HttpReply.requestHttpBody(), RequestMetrics.timed(GET_ONE_QUIZ_ADDRESS, quizReply -> {
             if (quizReply.failed()) {
                 handleFailure(quizReply.cause(), routingContext);
                 return;
             }
 
-            var quizDto = (QuizDto) quizReply.result().body();
-            log.debug("Retrieved quiz \"{}\"", quizDto);
+            log.debug("Retrieved quiz \"{}\"", quizId);
 
-            routingContext.response()
-                    .putHeader("content-type", "application/json")
-                    .end(quizDto.toJsonObject().toBuffer());
-        });
+            HttpReply.end(quizReply.result(), routingContext);
+        }));
     }
 
     private void handleGetParticipants(RoutingContext routingContext) {
@@ -160,19 +158,16 @@ public class QuizHttpVerticle extends AbstractVerticle {
         var getParticipantsRequest = new JsonObject()
                 .put("accountId", accountId)
                 .put("quizId", quizId);
-        vertx.eventBus().request(GET_PARTICIPANTS_ADDRESS, getParticipantsRequest, participantsReply -> {
+        vertx.eventBus().request(QuizShards.address(GET_PARTICIPANTS_ADDRESS, quizId), getParticipantsRequest, HttpReply.requestHttpBody(), RequestMetrics.timed(GET_PARTICIPANTS_ADDRESS, participantsReply -> {
             if (participantsReply.failed()) {
                 handleFailure(participantsReply.cause(), routingContext);
                 return;
             }
 
-            var participants = (JsonArray) participantsReply.result().body();
-            log.debug("Retrieved {} participants", participants.size());
+            log.debug("Retrieved participants for quiz \"{}\"", quizId);
 
-            routingContext.response()
-                    .putHeader("content-type", "application/json")
-                    .end(participants.toBuffer());
-        });
+            HttpReply.end(participantsReply.result(), routingContext);
+        }));
     }
 
     private void handleGetResult(RoutingContext routingContext) {
@@ -180,23 +175,32 @@ public class QuizHttpVerticle extends AbstractVerticle {
 
         log.debug(String.format("Get results for quiz \"%s\"", quizId));
 
+        var cacheKey = QuizShards.normalize(quizId);
+        var cachedResult = quizResultCache.get(cacheKey);
+        if (cachedResult != null) {
+            routingContext.response()
+                    .putHeader("content-type", "application/json")
+                    .end(cachedResult);
+            return;
+        }
+
         var accountId = routingContext.user().principal().getString("accountId");
         var getQuizResultRequest = new JsonObject()
                 .put("accountId", accountId)
                 .put("quizId", quizId);
-        vertx.eventBus().request(GET_QUIZ_RESULT_ADDRESS, getQuizResultRequest, quizResultReply -> {
+        vertx.eventBus().request(GET_QUIZ_RESULT_ADDRESS, getQuizResultRequest, HttpReply.requestHttpBody(), RequestMetrics.timed(GET_QUIZ_RESULT_ADDRESS, quizResultReply -> {
             if (quizResultReply.failed()) {
                 handleFailure(quizResultReply.cause(), routingContext);
                 return;
             }
 
-            var quizResult = (ResultSummaryDto) quizResultReply.result().body();
-            log.debug("Retrieved result for quiz \"{}\"", quizResult);
+            log.debug("Retrieved result for quiz \"{}\"", quizId);
 
-            routingContext.response()
-                    .putHeader("content-type", "application/json")
-                    .end(quizResult.toJsonObject().toBuffer());
-        });
+            var reply = quizResultReply.result();
+            quizResultCache.put(cacheKey, (Buffer) reply.body());
+
+            HttpReply.end(reply, routingContext);
+        }));
     }
 
     private void handleComplete(RoutingContext routingContext) {
@@ -208,7 +212,7 @@ public class QuizHttpVerticle extends AbstractVerticle {
         var completeRequest = new JsonObject()
                 .put("accountId", accountId)
                 .put("quizId", quizId);
-        vertx.eventBus().request(COMPLETE_QUIZ_ADDRESS, completeRequest, completeQuizReply -> {
+        vertx.eventBus().request(QuizShards.address(COMPLETE_QUIZ_ADDRESS, quizId), completeRequest, RequestMetrics.timed(COMPLETE_QUIZ_ADDRESS, completeQuizReply -> {
             if (completeQuizReply.failed()) {
                 handleFailure(completeQuizReply.cause(), routingContext);
                 return;
@@ -219,7 +223,7 @@ public class QuizHttpVerticle extends AbstractVerticle {
             routingContext.response()
                     .setStatusCode(204)
                     .end();
-        });
+        }));
     }
 
     private void handleParticipate(RoutingContext routingContext) {
@@ -231,7 +235,7 @@ public class QuizHttpVerticle extends AbstractVerticle {
         var participateRequest = new JsonObject()
                 .put("accountId", accountId)
                 .put("quizId", quizId);
-        vertx.eventBus().request(PARTICIPATE_IN_QUIZ_ADDRESS, participateRequest, participateReply -> {
+        vertx.eventBus().request(QuizShards.address(PARTICIPATE_IN_QUIZ_ADDRESS, quizId), participateRequest, RequestMetrics.timed(PARTICIPATE_IN_QUIZ_ADDRESS, participateReply -> {
             if (participateReply.failed()) {
                 handleFailure(participateReply.cause(), routingContext);
                 return;
@@ -243,7 +247,7 @@ public class QuizHttpVerticle extends AbstractVerticle {
             routingContext.response()
                     .putHeader("content-type", "application/json")
                     .end(new JsonObject().put("personalListId", listId).toBuffer());
-        });
+        }));
     }
 
     private void handleFailure(Throwable cause, RoutingContext routingContext) {
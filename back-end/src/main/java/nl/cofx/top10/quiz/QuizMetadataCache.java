@@ -0,0 +1,89 @@
+package nl.cofx.top10.quiz;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.vertx.core.Future;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.metrics.Meters;
+import nl.cofx.top10.quiz.dto.QuizDto;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+public class QuizMetadataCache {
+
+    private static final String DEFAULT_NAME = "quiz.metadata";
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final Cache<String, QuizDto> cache;
+    private final Cache<String, Long> invalidations;
+    private final AtomicLong generation = new AtomicLong();
+
+    public QuizMetadataCache() {
+        this(DEFAULT_NAME, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE, Ticker.systemTicker());
+    }
+
+    QuizMetadataCache(String name, long maximumSize, Duration timeToLive, Ticker ticker) {
+        cache = GuavaCacheMetrics.monitor(Meters.registry(), CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .recordStats()
+                .build(), name);
+        invalidations = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .build();
+    }
+
+    public Future<QuizDto> get(String quizId, Supplier<Future<QuizDto>> loader) {
+        var key = QuizShards.normalize(quizId);
+        var quizDto = cache.getIfPresent(key);
+        if (quizDto != null) {
+            log.debug("Using cached metadata for quiz \"{}\"", quizId);
+            return Future.succeededFuture(quizDto);
+        }
+
+        var loadGeneration = generation.get();
+        return loader.get().map(loadedQuizDto -> put(key, loadedQuizDto, loadGeneration));
+    }
+
+    private QuizDto put(String key, QuizDto quizDto, long loadGeneration) {
+        var metadata = QuizDto.builder()
+                .id(quizDto.getId())
+                .name(quizDto.getName())
+                .isActive(quizDto.isActive())
+                .creatorId(quizDto.getCreatorId())
+                .deadline(quizDto.getDeadline())
+                .build();
+        if (isInvalidatedSince(key, loadGeneration)) {
+            log.debug("Discarding metadata for quiz \"{}\" loaded before its invalidation", quizDto.getId());
+            return metadata;
+        }
+
+        cache.put(key, metadata);
+        if (isInvalidatedSince(key, loadGeneration)) {
+            cache.invalidate(key);
+        }
+
+        return metadata;
+    }
+
+    private boolean isInvalidatedSince(String key, long loadGeneration) {
+        var invalidationGeneration = invalidations.getIfPresent(key);
+        return invalidationGeneration != null && invalidationGeneration > loadGeneration;
+    }
+
+    public void invalidate(String quizId) {
+        log.debug("Invalidating cached metadata for quiz \"{}\"", quizId);
+        var key = QuizShards.normalize(quizId);
+        invalidations.put(key, generation.incrementAndGet());
+        cache.invalidate(key);
+    }
+}
@@ -0,0 +1,180 @@
+package nl.cofx.top10.quiz;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.Getter;
+import nl.cofx.top10.quiz.dto.ListDto;
+import nl.cofx.top10.quiz.dto.ParticipantDto;
+import nl.cofx.top10.quiz.dto.QuizDto;
+
+class QuizModel {
+
+    @Getter
+    private final String quizId;
+    @Getter
+    private final String name;
+    @Getter
+    private final String creatorId;
+    @Getter
+    private final Instant deadline;
+    @Getter
+    private boolean isActive;
+
+    private final Map<String, Participant> participants = new TreeMap<>();
+    private final Map<String, String> listCreators = new HashMap<>();
+    private final Map<String, Map<String, String>> assignments = new HashMap<>();
+
+    QuizModel(String quizId, String name, String creatorId, Instant deadline, boolean isActive) {
+        this.quizId = quizId;
+        this.name = name;
+        this.creatorId = creatorId;
+        this.deadline = deadline;
+        this.isActive = isActive;
+    }
+
+    void addList(String listId, String accountId, String accountName, boolean hasDraftStatus) {
+        var accountKey = QuizShards.normalize(accountId);
+        participants.put(accountKey, new Participant(accountId, listId, accountName, hasDraftStatus));
+        listCreators.put(QuizShards.normalize(listId), accountKey);
+    }
+
+    void finalizeList(String listId) {
+        var creatorKey = listCreators.get(QuizShards.normalize(listId));
+        if (creatorKey != null) {
+            participants.get(creatorKey).hasDraftStatus = false;
+        }
+    }
+
+    void assignList(String accountId, String listId, String assigneeId) {
+        assignments.computeIfAbsent(QuizShards.normalize(accountId), id -> new HashMap<>()).put(QuizShards.normalize(listId), assigneeId);
+    }
+
+    void complete() {
+        isActive = false;
+    }
+
+    boolean isCreator(String accountId) {
+        return accountId != null && QuizShards.normalize(creatorId).equals(QuizShards.normalize(accountId));
+    }
+
+    boolean hasList(String listId) {
+        return listCreators.containsKey(QuizShards.normalize(listId));
+    }
+
+    boolean isListCreator(String accountId, String listId) {
+        var creatorKey = listCreators.get(QuizShards.normalize(listId));
+        return accountId != null && creatorKey != null && creatorKey.equals(QuizShards.normalize(accountId));
+    }
+
+    boolean listHasDraftStatus(String listId) {
+        var creatorKey = listCreators.get(QuizShards.normalize(listId));
+        return creatorKey != null && participants.get(creatorKey).hasDraftStatus;
+    }
+
+    boolean participates(String accountId) {
+        return accountId != null && participants.containsKey(QuizShards.normalize(accountId));
+    }
+
+    boolean canAccessList(String accountId, String listId, Instant now) {
+        if (!participates(accountId) || !hasList(listId)) {
+            return false;
+        }
+
+        var ownListId = participants.get(QuizShards.normalize(accountId)).listId;
+        return !deadline.isAfter(now) || QuizShards.normalize(listId).equals(QuizShards.normalize(ownListId));
+    }
+
+    QuizDto toQuizDto(String accountId) {
+        var quizDtoBuilder = QuizDto.builder()
+                .id(quizId)
+                .name(name)
+                .isActive(isActive)
+                .creatorId(creatorId)
+                .isCreator(isCreator(accountId))
+                .deadline(deadline);
+
+        if (participates(accountId)) {
+            var participant = participants.get(QuizShards.normalize(accountId));
+            quizDtoBuilder.personalListId(participant.listId)
+                    .personalListHasDraftStatus(participant.hasDraftStatus);
+        }
+
+        return quizDtoBuilder.build();
+    }
+
+    List<ListDto> getFinalizedLists(String accountId) {
+        var accountKey = QuizShards.normalize(accountId);
+        var assignmentsOfAccount = assignments.getOrDefault(accountKey, Map.of());
+
+        var lists = new ArrayList<ListDto>(participants.size());
+        participants.forEach((participantKey, participant) -> {
+            if (participant.hasDraftStatus) {
+                return;
+            }
+
+            var listDtoBuilder = ListDto.builder()
+                    .id(participant.listId)
+                    .isOwnList(participantKey.equals(accountKey))
+                    .isActiveQuiz(isActive);
+
+            var assigneeId = assignmentsOfAccount.get(QuizShards.normalize(participant.listId));
+            if (assigneeId != null) {
+                listDtoBuilder.assigneeId(assigneeId)
+                        .assigneeName(getParticipantName(assigneeId));
+            }
+
+            lists.add(listDtoBuilder.build());
+        });
+        lists.sort((list1, list2) -> list1.getId().compareTo(list2.getId()));
+
+        return lists;
+    }
+
+    List<ParticipantDto> getParticipants(String accountId) {
+        var accountKey = QuizShards.normalize(accountId);
+        var assignmentsOfAccount = assignments.getOrDefault(accountKey, Map.of());
+        var assignedLists = new HashMap<String, List<String>>();
+        participants.values().forEach(participant -> {
+            var assigneeId = assignmentsOfAccount.get(QuizShards.normalize(participant.listId));
+            if (assigneeId != null) {
+                assignedLists.computeIfAbsent(QuizShards.normalize(assigneeId), id -> new ArrayList<>()).add(participant.listId);
+            }
+        });
+
+        var participantDtos = new ArrayList<ParticipantDto>(participants.size());
+        participants.forEach((participantKey, participant) -> participantDtos.add(ParticipantDto.builder()
+                .id(participant.accountId)
+                .name(participant.name)
+                .listHasDraftStatus(participant.hasDraftStatus)
+                .assignedLists(assignedLists.getOrDefault(participantKey, List.of()))
+                .isOwnAccount(participantKey.equals(accountKey))
+                .build()));
+
+        return participantDtos;
+    }
+
+    private String getParticipantName(String accountId) {
+        var participant = participants.get(QuizShards.normalize(accountId));
+        return participant == null ? null : participant.name;
+    }
+
+    private static class Participant {
+
+        private final String accountId;
+        private final String listId;
+        private final String name;
+        private boolean hasDraftStatus;
+
+        private Participant(String accountId, String listId, String name, boolean hasDraftStatus) {
+            this.accountId = accountId;
+            this.listId = listId;
+            this.name = name;
+            this.hasDraftStatus = hasDraftStatus;
+        }
+    }
+}
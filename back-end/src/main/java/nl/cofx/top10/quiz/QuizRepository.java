@@ -1,110 +1,126 @@
 package nl.cofx.top10.quiz;
 
 import io.vertx.core.Future;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.sql.SQLConnection;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
 import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.ConflictException;
 import nl.cofx.top10.NotFoundException;
 import nl.cofx.top10.quiz.dto.*;
 
 import java.time.Instant;
-import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
-import java.util.stream.Collectors;
 
+import static nl.cofx.top10.postgresql.PostgreSql.execute;
 import static nl.cofx.top10.postgresql.PostgreSql.toUuid;
 
 @Slf4j
 public class QuizRepository {
 
-    private static final String GET_ALL_QUIZZES_TEMPLATE =
+    private static final String ASSIGNMENT_JSON =
+            "json_build_object("
+            + "'listId', replace(a.list_id::text, '-', ''), "
+            + "'assigneeId', replace(a.assignee_id::text, '-', ''), "
+            + "'assigneeName', a.assignee_name, "
+            + "'creatorId', replace(a.creator_id::text, '-', ''), "
+            + "'creatorName', a.creator_name"
+            + ")";
+    static final String GET_ALL_QUIZZES_TEMPLATE =
             "SELECT replace(q.quiz_id::text, '-', '') AS quiz_id, q.name, q.is_active, replace(q.creator_id::text, '-', '') AS creator_id, q.deadline, replace(l.list_id::text, '-', '') AS list_id, l.has_draft_status FROM quiz q "
             + "JOIN list l ON l.quiz_id = q.quiz_id "
-            + "WHERE l.account_id = ?";
-    private static final String GET_ONE_QUIZ_TEMPLATE =
+            + "WHERE l.account_id = $1";
+    static final String GET_ONE_QUIZ_TEMPLATE =
             "SELECT replace(q.quiz_id::text, '-', '') AS quiz_id, q.name, q.is_active, replace(q.creator_id::text, '-', '') AS creator_id, q.deadline, replace(l.list_id::text, '-', '') AS list_id, l.has_draft_status FROM quiz q "
-            + "LEFT JOIN list l ON l.quiz_id = q.quiz_id AND l.account_id = ? "
-            + "WHERE q.quiz_id = ?";
-    private static final String CREATE_QUIZ_TEMPLATE = "INSERT INTO quiz (name, is_active, creator_id, deadline) VALUES (?, true, ?, ?)";
-    private static final String COMPLETE_QUIZ_TEMPLATE = "UPDATE quiz SET is_active = false WHERE creator_id = ? AND quiz_id = ?";
-    private static final String CREATE_LIST_TEMPLATE = "INSERT INTO list (account_id, quiz_id, has_draft_status) "
-                                                       + "VALUES (?, ?, true) "
-                                                       + "ON CONFLICT DO NOTHING";
-    private static final String GET_PARTICIPANTS_TEMPLATE =
+            + "LEFT JOIN list l ON l.quiz_id = q.quiz_id AND l.account_id = $1 "
+            + "WHERE q.quiz_id = $2";
+    static final String CREATE_QUIZ_TEMPLATE = "INSERT INTO quiz (name, is_active, creator_id, deadline) VALUES ($1, true, $2, $3) "
+                                               + "RETURNING replace(quiz_id::text, '-', '') AS quiz_id";
+    static final String COMPLETE_QUIZ_TEMPLATE = "UPDATE quiz SET is_active = false WHERE creator_id = $1 AND quiz_id = $2";
+    static final String CREATE_LIST_TEMPLATE = "INSERT INTO list (account_id, quiz_id, has_draft_status) "
+                                               + "VALUES ($1, $2, true) "
+                                               + "ON CONFLICT DO NOTHING "
+                                               + "RETURNING replace(list_id::text, '-', '') AS list_id";
+    static final String GET_PARTICIPANTS_TEMPLATE =
             "WITH participant AS ("
             + "SELECT l.account_id AS participant_id, acc.name AS participant_name, l.quiz_id, l.has_draft_status FROM list l "
-            + "JOIN account acc ON l.account_id = acc.account_id"
+            + "JOIN account acc ON l.account_id = acc.account_id "
+            + "WHERE l.quiz_id = $2"
             + "), assignment AS ("
             + "SELECT ass.assignee_id, ass.account_id AS assigner_id, ass.list_id AS assigned_list_id, l.quiz_id FROM assignment ass "
-            + "JOIN account acc ON ass.assignee_id = acc.account_id "
-            + "JOIN list l ON l.list_id = ass.list_id"
+            + "JOIN list l ON l.list_id = ass.list_id "
+            + "WHERE l.quiz_id = $2 AND ass.account_id = $1"
             + ") SELECT replace(participant_id::text, '-', '') AS participant_id, participant_name, has_draft_status, replace(assigned_list_id::text, '-', '') AS assigned_list_id FROM participant p "
-            + "LEFT JOIN assignment a ON (p.participant_id = a.assignee_id AND p.quiz_id = a.quiz_id AND a.assigner_id = ?) "
-            + "WHERE p.quiz_id = ? "
+            + "LEFT JOIN assignment a ON (p.participant_id = a.assignee_id AND p.quiz_id = a.quiz_id AND a.assigner_id = $1) "
+            + "WHERE p.quiz_id = $2 "
             + "ORDER BY participant_id";
-    private static final String GET_QUIZ_RESULT_TEMPLATE =
-            "WITH list AS ("
-            + "  SELECT list_id, account_id FROM list "
-            + "  WHERE quiz_id = ? AND has_draft_status = false"
-            + "), participant AS ("
-            + "  SELECT l.account_id, a.name FROM list l "
-            + "  JOIN account a ON l.account_id = a.account_id"
-            + "), assignment AS ("
-            + "  SELECT ass.list_id, acc.account_id AS assignee_id, acc.name AS assignee_name, ass.account_id AS assigner_id FROM assignment ass "
-            + "  JOIN account acc ON ass.assignee_id = acc.account_id "
-            + "  JOIN list l ON ass.list_id = l.list_id"
+    static final String GET_QUIZ_RESULT_TEMPLATE =
+            "WITH participant AS ("
+            + "  SELECT l.list_id, l.account_id, a.name FROM list l "
+            + "  JOIN account a ON l.account_id = a.account_id "
+            + "  WHERE l.quiz_id = $1 AND l.has_draft_status = false"
+            + "), assigned AS ("
+            + "  SELECT ass.account_id AS assigner_id, ass.assignee_id, assignee.name AS assignee_name, creator.list_id, creator.account_id AS creator_id, creator.name AS creator_name FROM participant creator "
+            + "  JOIN assignment ass ON ass.list_id = creator.list_id "
+            + "  JOIN participant assigner ON assigner.account_id = ass.account_id "
+            + "  JOIN account assignee ON assignee.account_id = ass.assignee_id "
+            + "  WHERE ass.account_id <> creator.account_id"
             + ") "
             + "SELECT "
-            + "replace(assigner.account_id::text, '-', '') AS assigner_id, assigner.name AS assigner_name, "
-            + "replace(creator.account_id::text, '-', '') AS creator_id, creator.name AS creator_name, "
-            + "replace(l.list_id::text, '-', '') AS list_id, "
-            + "replace(a.assignee_id::text, '-', '') AS assignee_id, a.assignee_name "
-            + "FROM participant assigner "
-            + "CROSS JOIN participant creator "
-            + "JOIN list l ON creator.account_id = l.account_id "
-            + "LEFT JOIN assignment a ON (a.list_id = l.list_id AND a.assigner_id = assigner.account_id)";
-
-    public Future<QuizzesDto> getAllQuizzes(SQLConnection connection, String accountId) {
-        return Future.future(promise ->
-                connection.queryWithParams(GET_ALL_QUIZZES_TEMPLATE, new JsonArray().add(toUuid(accountId)), asyncQuizzes -> {
-                    if (asyncQuizzes.failed()) {
-                        var cause = asyncQuizzes.cause();
-                        log.error("Unable to retrieve all quizzes for account ID \"{}\"", accountId, cause);
-                        promise.fail(cause);
-                        return;
-                    }
-
+            + "replace(p.account_id::text, '-', '') AS account_id, p.name, replace(p.list_id::text, '-', '') AS list_id, "
+            + "COALESCE(json_agg(" + ASSIGNMENT_JSON + ") FILTER (WHERE a.assignee_id = a.creator_id), '[]') AS correct_assignments, "
+            + "COALESCE(json_agg(" + ASSIGNMENT_JSON + ") FILTER (WHERE a.assignee_id <> a.creator_id), '[]') AS incorrect_assignments "
+            + "FROM participant p "
+            + "LEFT JOIN assigned a ON a.assigner_id = p.account_id "
+            + "GROUP BY p.account_id, p.name, p.list_id";
+    static final String GET_QUIZ_MODEL_TEMPLATE =
+            "SELECT replace(q.quiz_id::text, '-', '') AS quiz_id, q.name, q.is_active, replace(q.creator_id::text, '-', '') AS creator_id, q.deadline FROM quiz q "
+            + "WHERE q.quiz_id = $1";
+    static final String GET_QUIZ_MODEL_LISTS_TEMPLATE =
+            "SELECT replace(l.list_id::text, '-', '') AS list_id, replace(l.account_id::text, '-', '') AS account_id, a.name, l.has_draft_status FROM list l "
+            + "JOIN account a ON a.account_id = l.account_id "
+            + "WHERE l.quiz_id = $1";
+    static final String GET_QUIZ_MODEL_ASSIGNMENTS_TEMPLATE =
+            "SELECT replace(ass.list_id::text, '-', '') AS list_id, replace(ass.account_id::text, '-', '') AS account_id, replace(ass.assignee_id::text, '-', '') AS assignee_id FROM assignment ass "
+            + "JOIN list l ON l.list_id = ass.list_id "
+            + "WHERE l.quiz_id = $1";
+    static final String GET_QUIZ_RESULT_SNAPSHOT_TEMPLATE = "SELECT result FROM quiz_result WHERE quiz_id = $1";
+    static final String SAVE_QUIZ_RESULT_SNAPSHOT_TEMPLATE = "INSERT INTO quiz_result (quiz_id, result) VALUES ($1, $2) "
+                                                             + "ON CONFLICT (quiz_id) DO UPDATE SET result = EXCLUDED.result";
+
+    public Future<QuizzesDto> getAllQuizzes(SqlConnection connection, String accountId) {
+        return execute(connection, "quiz.getAll", GET_ALL_QUIZZES_TEMPLATE, Tuple.of(toUuid(accountId)))
+                .onFailure(cause -> log.error("Unable to retrieve all quizzes for account ID \"{}\"", accountId, cause))
+                .map(rows -> {
                     log.debug("Retrieved all quizzes for account");
 
-                    var quizzes = asyncQuizzes.result().getResults().stream()
-                            .map(quiz -> toQuizDto(quiz, accountId))
-                            .collect(Collectors.toList());
+                    var quizzes = new ArrayList<QuizDto>(rows.size());
+                    rows.forEach(row -> quizzes.add(toQuizDto(row, accountId)));
 
-                    promise.complete(QuizzesDto.builder()
+                    return QuizzesDto.builder()
                             .quizzes(quizzes)
-                            .build());
-                }));
+                            .build();
+                });
     }
 
-    private QuizDto toQuizDto(JsonArray array, String accountId) {
-        var creatorId = array.getString(3);
+    private QuizDto toQuizDto(Row row, String accountId) {
+        var creatorId = row.getString(3);
         var quizDtoBuilder = QuizDto.builder()
-                .id(array.getString(0))
-                .name(array.getString(1))
-                .isActive(array.getBoolean(2))
+                .id(row.getString(0))
+                .name(row.getString(1))
+                .isActive(row.getBoolean(2))
                 .creatorId(creatorId)
                 .isCreator(creatorId.equals(accountId))
-                .deadline(((OffsetDateTime) array.getValue(4)).toInstant());
+                .deadline(row.getOffsetDateTime(4).toInstant());
 
-        var personalListId = array.getString(5);
+        var personalListId = row.getString(5);
         if (personalListId != null) {
             quizDtoBuilder.personalListId(personalListId);
         }
 
-        var personalListHasDraftStatus = array.getBoolean(6);
+        var personalListHasDraftStatus = row.getBoolean(6);
         if (personalListHasDraftStatus != null) {
             quizDtoBuilder.personalListHasDraftStatus(personalListHasDraftStatus);
         }
@@ -112,179 +128,201 @@ public class QuizRepository {
         return quizDtoBuilder.build();
     }
 
-    public Future<QuizDto> getQuiz(SQLConnection connection, String quizId, String accountId) {
-        return Future.future(promise ->
-                connection.querySingleWithParams(GET_ONE_QUIZ_TEMPLATE, new JsonArray().add(toUuid(accountId)).add(toUuid(quizId)), asyncQuiz -> {
-                    if (asyncQuiz.failed()) {
-                        var cause = asyncQuiz.cause();
-                        log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_ONE_QUIZ_TEMPLATE, quizId, cause);
-                        promise.fail(cause);
-                        return;
-                    }
-
-                    if (asyncQuiz.result() == null) {
+    public Future<QuizDto> getQuiz(SqlConnection connection, String quizId, String accountId) {
+        return execute(connection, "quiz.getOne", GET_ONE_QUIZ_TEMPLATE, Tuple.of(toUuid(accountId), toUuid(quizId)))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_ONE_QUIZ_TEMPLATE, quizId, cause))
+                .compose(rows -> {
+                    if (rows.size() == 0) {
                         log.debug("Quiz \"{}\" not found", quizId);
-                        promise.fail(new NotFoundException(String.format("Quiz \"%s\" not found", quizId)));
-                    } else {
-                        var quiz = toQuizDto(asyncQuiz.result(), accountId);
-                        log.debug("Retrieved quiz \"{}\": \"{}\"", quizId, quiz);
-                        promise.complete(quiz);
+                        return Future.failedFuture(new NotFoundException(String.format("Quiz \"%s\" not found", quizId)));
                     }
-                }));
+
+                    var quiz = toQuizDto(rows.iterator().next(), accountId);
+                    log.debug("Retrieved quiz \"{}\": \"{}\"", quizId, quiz);
+                    return Future.succeededFuture(quiz);
+                });
     }
 
-    public Future<ResultSummaryDto> getQuizResult(SQLConnection connection, String quizId) {
-        return Future.future(promise ->
-                connection.queryWithParams(GET_QUIZ_RESULT_TEMPLATE, new JsonArray().add(toUuid(quizId)), asyncQuizResult -> {
-                    if (asyncQuizResult.failed()) {
-                        var cause = asyncQuizResult.cause();
-                        log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_QUIZ_RESULT_TEMPLATE, quizId, cause);
-                        promise.fail(cause);
-                        return;
-                    }
+    Future<QuizModel> getQuizModel(SqlConnection connection, String quizId) {
+        var parameters = Tuple.of(toUuid(quizId));
+        var quizRows = execute(connection, "quiz.getModel", GET_QUIZ_MODEL_TEMPLATE, parameters)
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_QUIZ_MODEL_TEMPLATE, quizId, cause));
+        var listRows = execute(connection, "quiz.getModelLists", GET_QUIZ_MODEL_LISTS_TEMPLATE, parameters)
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_QUIZ_MODEL_LISTS_TEMPLATE, quizId, cause));
+        var assignmentRows = execute(connection, "quiz.getModelAssignments", GET_QUIZ_MODEL_ASSIGNMENTS_TEMPLATE, parameters)
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_QUIZ_MODEL_ASSIGNMENTS_TEMPLATE, quizId, cause));
+
+        return Future.all(quizRows, listRows, assignmentRows).compose(rows -> {
+            if (quizRows.result().size() == 0) {
+                log.debug("Quiz \"{}\" not found", quizId);
+                return Future.failedFuture(new NotFoundException(String.format("Quiz \"%s\" not found", quizId)));
+            }
 
-                    var rows = asyncQuizResult.result().getRows();
-                    var quizResult = assignmentsToQuizResult(quizId, rows);
-                    log.debug("Retrieved result for quiz \"{}\": \"{}\"", quizId, quizResult);
-                    promise.complete(quizResult);
-                }));
+            var quizRow = quizRows.result().iterator().next();
+            var quizModel = new QuizModel(
+                    quizRow.getString("quiz_id"),
+                    quizRow.getString("name"),
+                    quizRow.getString("creator_id"),
+                    quizRow.getOffsetDateTime("deadline").toInstant(),
+                    quizRow.getBoolean("is_active"));
+            listRows.result().forEach(row -> quizModel.addList(
+                    row.getString("list_id"),
+                    row.getString("account_id"),
+                    row.getString("name"),
+                    row.getBoolean("has_draft_status")));
+            assignmentRows.result().forEach(row -> quizModel.assignList(
+                    row.getString("account_id"),
+                    row.getString("list_id"),
+                    row.getString("assignee_id")));
+
+            log.debug("Retrieved model of quiz \"{}\"", quizId);
+            return Future.succeededFuture(quizModel);
+        });
     }
 
-    private ResultSummaryDto assignmentsToQuizResult(String quizId, List<JsonObject> assignments) {
-        return ResultSummaryDto.builder()
-                .quizId(quizId)
-                .personalResults(toPersonalResults(assignments))
-                .build();
+    public Future<ResultSummaryDto> getQuizResult(SqlConnection connection, String quizId) {
+        return execute(connection, "quiz.getResult", GET_QUIZ_RESULT_TEMPLATE, Tuple.of(toUuid(quizId)))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_QUIZ_RESULT_TEMPLATE, quizId, cause))
+                .map(rows -> {
+                    var participants = new ArrayList<JsonObject>(rows.size());
+                    rows.forEach(row -> participants.add(new JsonObject()
+                            .put("accountId", row.getString("account_id"))
+                            .put("name", row.getString("name"))
+                            .put("listId", row.getString("list_id"))
+                            .put("correctAssignments", row.getJsonArray("correct_assignments"))
+                            .put("incorrectAssignments", row.getJsonArray("incorrect_assignments"))));
+
+                    var quizResult = ResultSummaryDto.builder()
+                            .quizId(quizId)
+                            .personalResults(toPersonalResults(participants))
+                            .build();
+                    log.debug("Retrieved result for quiz \"{}\": \"{}\"", quizId, quizResult);
+                    return quizResult;
+                });
     }
 
-    private Map<String, PersonalResultDto> toPersonalResults(List<JsonObject> assignments) {
-        var personalResults = new HashMap<String, PersonalResultDto.PersonalResultDtoBuilder>();
-
-        assignments.forEach(assignment -> {
-            var accountId = assignment.getString("assigner_id");
-            var name = assignment.getString("assigner_name");
-            var personalResult = personalResults.computeIfAbsent(accountId, key ->
-                    PersonalResultDto.builder()
-                            .accountId(key)
-                            .name(name));
-            var assigneeId = assignment.getString("assignee_id");
-            var assigneeName = assignment.getString("assignee_name");
-            var creatorId = assignment.getString("creator_id");
-            var creatorName = assignment.getString("creator_name");
-            var listId = assignment.getString("list_id");
-            var assignmentDto = AssignmentDto.builder()
-                    .assigneeId(assigneeId)
-                    .assigneeName(assigneeName)
-                    .creatorId(creatorId)
-                    .creatorName(creatorName)
-                    .listId(listId)
-                    .build();
-
-            if (accountId.equals(creatorId)) {
-                return;
-            }
+    public Future<ResultSummaryDto> getQuizResultSnapshot(SqlConnection connection, String quizId) {
+        return execute(connection, "quiz.getResultSnapshot", GET_QUIZ_RESULT_SNAPSHOT_TEMPLATE, Tuple.of(toUuid(quizId)))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_QUIZ_RESULT_SNAPSHOT_TEMPLATE, quizId, cause))
+                .map(rows -> {
+                    if (rows.size() == 0) {
+                        log.debug("No result snapshot for quiz \"{}\"", quizId);
+                        return null;
+                    }
 
-            if (Objects.equals(assigneeId, creatorId)) {
-                personalResult.correctAssignment(assignmentDto);
-            } else {
-                personalResult.incorrectAssignment(assignmentDto);
-            }
-        });
+                    var quizResult = ResultSummaryDto.fromJsonObject(rows.iterator().next().getJsonObject("result"));
+                    log.debug("Retrieved result snapshot for quiz \"{}\": \"{}\"", quizId, quizResult);
+                    return quizResult;
+                });
+    }
 
-        return personalResults.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().build()));
+    public Future<Void> saveQuizResultSnapshot(SqlConnection connection, ResultSummaryDto quizResult) {
+        var quizId = quizResult.getQuizId();
+        return execute(connection, "quiz.saveResultSnapshot", SAVE_QUIZ_RESULT_SNAPSHOT_TEMPLATE, Tuple.of(toUuid(quizId), quizResult.toJsonObject()))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", SAVE_QUIZ_RESULT_SNAPSHOT_TEMPLATE, quizId, cause))
+                .map(rows -> {
+                    log.debug("Saved result snapshot for quiz \"{}\"", quizId);
+                    return null;
+                });
     }
 
-    public Future<String> createQuiz(SQLConnection connection, String name, String creatorId, Instant deadline) {
-        return Future.future(promise -> {
-            var params = new JsonArray().add(name).add(toUuid(creatorId)).add(deadline.atOffset(ZoneOffset.UTC));
-            connection.updateWithParams(CREATE_QUIZ_TEMPLATE, params, asyncResult -> {
-                if (asyncResult.failed()) {
-                    var cause = asyncResult.cause();
-                    log.error("Unable to execute query \"{}\"", CREATE_QUIZ_TEMPLATE, cause);
-                    promise.fail(cause);
+    static Map<String, PersonalResultDto> toPersonalResults(List<JsonObject> participants) {
+        var personalResults = new HashMap<String, PersonalResultDto>(participants.size());
+
+        participants.forEach(participant -> {
+            var accountId = participant.getString("accountId");
+            var correctAssignments = AssignmentDto.fromJsonArray(participant.getJsonArray("correctAssignments"));
+            var incorrectAssignments = AssignmentDto.fromJsonArray(participant.getJsonArray("incorrectAssignments"));
+            var personalResult = PersonalResultDto.builder()
+                    .accountId(accountId)
+                    .name(participant.getString("name"))
+                    .correctAssignments(correctAssignments)
+                    .incorrectAssignments(incorrectAssignments);
+
+            var assignedListIds = new HashSet<String>();
+            correctAssignments.forEach(assignment -> assignedListIds.add(assignment.getListId()));
+            incorrectAssignments.forEach(assignment -> assignedListIds.add(assignment.getListId()));
+
+            participants.forEach(creator -> {
+                var creatorId = creator.getString("accountId");
+                var listId = creator.getString("listId");
+                if (accountId.equals(creatorId) || assignedListIds.contains(listId)) {
                     return;
                 }
 
-                var quizId = asyncResult.result().getKeys().getString(3).replace("-", "");
-                log.debug("Query \"{}\" produced result \"{}\"", CREATE_QUIZ_TEMPLATE, quizId);
-                promise.complete(quizId);
+                personalResult.incorrectAssignment(AssignmentDto.builder()
+                        .creatorId(creatorId)
+                        .creatorName(creator.getString("name"))
+                        .listId(listId)
+                        .build());
             });
-        });
-    }
 
-    public Future<Void> completeQuiz(SQLConnection connection, String accountId, String quizId) {
-        return Future.future(promise ->
-                connection.updateWithParams(COMPLETE_QUIZ_TEMPLATE, new JsonArray().add(toUuid(accountId)).add(toUuid(quizId)), asyncComplete -> {
-                    if (asyncComplete.failed()) {
-                        var cause = asyncComplete.cause();
-                        log.error("Unable to execute query \"{}\" with parameters \"{}\" and \"{}\"", COMPLETE_QUIZ_TEMPLATE, accountId, quizId, cause);
-                        promise.fail(cause);
-                        return;
-                    }
+            personalResults.put(accountId, personalResult.build());
+        });
 
-                    var numberOfAffectedRows = asyncComplete.result().getUpdated();
-                    log.debug("Affected {} rows by executing query \"{}\"", numberOfAffectedRows, COMPLETE_QUIZ_TEMPLATE);
+        return personalResults;
+    }
 
-                    promise.complete();
-                }));
+    public Future<String> createQuiz(SqlConnection connection, String name, String creatorId, Instant deadline) {
+        var parameters = Tuple.of(name, toUuid(creatorId), deadline.atOffset(ZoneOffset.UTC));
+        return execute(connection, "quiz.create", CREATE_QUIZ_TEMPLATE, parameters)
+                .onFailure(cause -> log.error("Unable to execute query \"{}\"", CREATE_QUIZ_TEMPLATE, cause))
+                .map(rows -> {
+                    var quizId = rows.iterator().next().getString("quiz_id");
+                    log.debug("Query \"{}\" produced result \"{}\"", CREATE_QUIZ_TEMPLATE, quizId);
+                    return quizId;
+                });
     }
 
-    public Future<String> createList(SQLConnection connection, String accountId, String quizId) {
-        return Future.future(promise ->
-                connection.updateWithParams(CREATE_LIST_TEMPLATE, new JsonArray().add(toUuid(accountId)).add(toUuid(quizId)), asyncUpdate -> {
-                    if (asyncUpdate.failed()) {
-                        var cause = asyncUpdate.cause();
-                        log.error("Unable to execute query \"{}\"", CREATE_LIST_TEMPLATE, cause);
-                        promise.fail(cause);
-                        return;
-                    }
+    public Future<Void> completeQuiz(SqlConnection connection, String accountId, String quizId) {
+        return execute(connection, "quiz.complete", COMPLETE_QUIZ_TEMPLATE, Tuple.of(toUuid(accountId), toUuid(quizId)))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameters \"{}\" and \"{}\"", COMPLETE_QUIZ_TEMPLATE, accountId, quizId, cause))
+                .map(rows -> {
+                    log.debug("Affected {} rows by executing query \"{}\"", rows.rowCount(), COMPLETE_QUIZ_TEMPLATE);
+                    return null;
+                });
+    }
 
-                    if (asyncUpdate.result().getUpdated() == 0) {
+    public Future<String> createList(SqlConnection connection, String accountId, String quizId) {
+        return execute(connection, "quiz.createList", CREATE_LIST_TEMPLATE, Tuple.of(toUuid(accountId), toUuid(quizId)))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\"", CREATE_LIST_TEMPLATE, cause))
+                .compose(rows -> {
+                    if (rows.rowCount() == 0) {
                         var errorMessage = String.format("Account \"%s\" already has a list for quiz \"%s\"", accountId, quizId);
-                        promise.fail(new ConflictException(errorMessage));
-                        return;
+                        return Future.failedFuture(new ConflictException(errorMessage));
                     }
 
-                    var listId = asyncUpdate.result().getKeys().getString(1).replace("-", "");
+                    var listId = rows.iterator().next().getString("list_id");
 
                     log.debug("Created new list \"{}\"", listId);
 
-                    promise.complete(listId);
-                }));
+                    return Future.succeededFuture(listId);
+                });
     }
 
-    public Future<JsonArray> getAllParticipants(SQLConnection connection, String quizId, String accountId) {
-        return Future.future(promise ->
-                connection.queryWithParams(GET_PARTICIPANTS_TEMPLATE, new JsonArray().add(toUuid(accountId)).add(toUuid(quizId)), asyncParticipants -> {
-                    if (asyncParticipants.failed()) {
-                        var cause = asyncParticipants.cause();
-                        log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_PARTICIPANTS_TEMPLATE, quizId, cause);
-                        promise.fail(cause);
-                        return;
-                    }
-
+    public Future<List<ParticipantDto>> getAllParticipants(SqlConnection connection, String quizId, String accountId) {
+        return execute(connection, "quiz.getParticipants", GET_PARTICIPANTS_TEMPLATE, Tuple.of(toUuid(accountId), toUuid(quizId)))
+                .onFailure(cause -> log.error("Unable to execute query \"{}\" with parameter \"{}\"", GET_PARTICIPANTS_TEMPLATE, quizId, cause))
+                .map(rows -> {
                     log.debug("Retrieved all participants for quiz");
 
-                    var idToParticipant = new HashMap<String, JsonObject>();
-                    asyncParticipants.result().getResults().forEach(row -> {
-                        var participantId = row.getString(0);
-                        idToParticipant.put(participantId, new JsonObject()
-                                .put("id", participantId)
-                                .put("name", row.getString(1))
-                                .put("listHasDraftStatus", row.getBoolean(2))
-                                .put("assignedLists", new JsonArray())
-                                .put("isOwnAccount", participantId.equals(accountId)));
-                    });
-                    asyncParticipants.result().getResults().forEach(row -> {
+                    var idToParticipant = new HashMap<String, ParticipantDto.ParticipantDtoBuilder>();
+                    rows.forEach(row -> {
                         var participantId = row.getString(0);
+                        var participant = idToParticipant.computeIfAbsent(participantId, id -> ParticipantDto.builder()
+                                .id(id)
+                                .name(row.getString(1))
+                                .listHasDraftStatus(row.getBoolean(2))
+                                .isOwnAccount(id.equals(accountId)));
                         var assignedListId = row.getString(3);
                         if (assignedListId != null) {
-                            idToParticipant.get(participantId).getJsonArray("assignedLists").add(assignedListId);
+                            participant.assignedList(assignedListId);
                         }
                     });
 
-                    promise.complete(new JsonArray(new ArrayList<>(idToParticipant.values())));
-                }));
+                    var participants = new ArrayList<ParticipantDto>(idToParticipant.size());
+                    idToParticipant.values().forEach(participant -> participants.add(participant.build()));
+                    return participants;
+                });
     }
 }
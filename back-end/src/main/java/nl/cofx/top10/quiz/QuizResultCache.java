@@ -0,0 +1,44 @@
+package nl.cofx.top10.quiz;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.vertx.core.buffer.Buffer;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.metrics.Meters;
+
+@Slf4j
+public class QuizResultCache {
+
+    private static final String DEFAULT_NAME = "quiz.result";
+    private static final long DEFAULT_MAXIMUM_WEIGHT_IN_BYTES = 16 * 1024 * 1024;
+
+    private final Cache<String, Buffer> cache;
+
+    public QuizResultCache() {
+        this(DEFAULT_NAME, DEFAULT_MAXIMUM_WEIGHT_IN_BYTES);
+    }
+
+    QuizResultCache(String name, long maximumWeightInBytes) {
+        cache = GuavaCacheMetrics.monitor(Meters.registry(), CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeightInBytes)
+                .<String, Buffer>weigher((quizId, result) -> result.length())
+                .recordStats()
+                .build(), name);
+    }
+
+    public Buffer get(String quizId) {
+        var result = cache.getIfPresent(quizId);
+        if (result == null) {
+            log.debug("No cached result for quiz \"{}\"", quizId);
+        } else {
+            log.debug("Using cached result for quiz \"{}\"", quizId);
+        }
+
+        return result;
+    }
+
+    public void put(String quizId, Buffer result) {
+        cache.put(quizId, result);
+    }
+}
@@ -0,0 +1,303 @@
+package nl.cofx.top10.quiz;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Lock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.ConflictException;
+import nl.cofx.top10.ForbiddenException;
+import nl.cofx.top10.NotFoundException;
+import nl.cofx.top10.entity.AbstractEntityVerticle;
+import nl.cofx.top10.entity.SingleFlight;
+import nl.cofx.top10.eventbus.HttpReply;
+import nl.cofx.top10.postgresql.PostgreSql;
+import nl.cofx.top10.quiz.dto.ListsDto;
+import nl.cofx.top10.quiz.dto.ParticipantDto;
+import nl.cofx.top10.quiz.dto.QuizDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static nl.cofx.top10.quiz.ListEntityVerticle.ASSIGN_LIST_ADDRESS;
+import static nl.cofx.top10.quiz.ListEntityVerticle.FINALIZE_LIST_ADDRESS;
+import static nl.cofx.top10.quiz.ListEntityVerticle.GET_ALL_LISTS_FOR_QUIZ_ADDRESS;
+import static nl.cofx.top10.quiz.QuizEntityVerticle.COMPLETE_QUIZ_ADDRESS;
+import static nl.cofx.top10.quiz.QuizEntityVerticle.GET_ONE_QUIZ_ADDRESS;
+import static nl.cofx.top10.quiz.QuizEntityVerticle.GET_PARTICIPANTS_ADDRESS;
+import static nl.cofx.top10.quiz.QuizEntityVerticle.PARTICIPATE_IN_QUIZ_ADDRESS;
+import static nl.cofx.top10.quiz.QuizEntityVerticle.QUIZ_COMPLETED_ADDRESS;
+
+@Slf4j
+@RequiredArgsConstructor
+public class QuizShardVerticle extends AbstractEntityVerticle {
+
+    private static final long INITIAL_LOCK_TIMEOUT_IN_MILLIS = 100;
+    private static final long STANDBY_LOCK_TIMEOUT_IN_MILLIS = 10_000;
+    private static final long LOCK_FAILURE_RETRY_DELAY_IN_MILLIS = 1_000;
+    private static final long MAXIMUM_NUMBER_OF_QUIZ_MODELS = 1_000;
+    private static final Duration QUIZ_MODEL_IDLE_TIME = Duration.ofHours(1);
+
+    private final QuizRepository quizRepository = new QuizRepository();
+    private final ListRepository listRepository = new ListRepository();
+    private final Cache<String, QuizModel> quizModels = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_NUMBER_OF_QUIZ_MODELS)
+            .expireAfterAccess(QUIZ_MODEL_IDLE_TIME)
+            .build();
+    private final SingleFlight<QuizModel> quizModelLoads = new SingleFlight<>("quiz.model");
+
+    private final JsonObject jdbcOptions;
+    private final int shard;
+
+    private Lock ownership;
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        log.info("Starting shard {}", shard);
+
+        pool = PostgreSql.pool(vertx, jdbcOptions);
+
+        acquireOwnership(INITIAL_LOCK_TIMEOUT_IN_MILLIS).onComplete(startPromise);
+    }
+
+    @Override
+    public void stop() {
+        if (ownership != null) {
+            log.info("Releasing ownership of quiz shard {}", shard);
+            ownership.release();
+        }
+    }
+
+    private Future<Void> acquireOwnership(long timeoutInMillis) {
+        var start = System.nanoTime();
+        return vertx.sharedData().getLockWithTimeout(QuizShards.lockName(shard), timeoutInMillis).transform(asyncLock -> {
+            if (asyncLock.failed()) {
+                var cause = asyncLock.cause();
+                var timedOut = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= timeoutInMillis;
+                if (timedOut) {
+                    log.debug("Standing by for quiz shard {}", shard);
+                } else {
+                    log.warn("Unable to get lock of quiz shard {}, retrying in {} ms", shard, LOCK_FAILURE_RETRY_DELAY_IN_MILLIS, cause);
+                }
+
+                vertx.setTimer(timedOut ? 1 : LOCK_FAILURE_RETRY_DELAY_IN_MILLIS, id -> acquireOwnership(STANDBY_LOCK_TIMEOUT_IN_MILLIS)
+                        .onFailure(registrationCause -> log.error("Unable to take over quiz shard {}", shard, registrationCause)));
+                return Future.succeededFuture();
+            }
+
+            log.info("Acquired ownership of quiz shard {}", shard);
+            ownership = asyncLock.result();
+            return registerConsumers();
+        });
+    }
+
+    private Future<Void> registerConsumers() {
+        return Future.all(List.of(
+                registerConsumer(GET_ONE_QUIZ_ADDRESS, this::handleGetOne),
+                registerConsumer(COMPLETE_QUIZ_ADDRESS, this::handleComplete),
+                registerConsumer(PARTICIPATE_IN_QUIZ_ADDRESS, this::handleParticipate),
+                registerConsumer(GET_PARTICIPANTS_ADDRESS, this::handleGetAllParticipants),
+                registerConsumer(GET_ALL_LISTS_FOR_QUIZ_ADDRESS, this::handleGetAllLists),
+                registerConsumer(FINALIZE_LIST_ADDRESS, this::handleFinalizeList),
+                registerConsumer(ASSIGN_LIST_ADDRESS, this::handleAssignList)))
+                .mapEmpty();
+    }
+
+    private Future<Void> registerConsumer(String address, Handler<Message<JsonObject>> handler) {
+        Promise<Void> registration = Promise.promise();
+        vertx.eventBus().consumer(QuizShards.address(address, shard), handler).completionHandler(registration);
+        return registration.future();
+    }
+
+    private Future<QuizModel> getQuizModel(String quizId) {
+        var key = QuizShards.normalize(quizId);
+        var quizModel = quizModels.getIfPresent(key);
+        if (quizModel != null) {
+            return Future.succeededFuture(quizModel);
+        }
+
+        return quizModelLoads.execute(key, () -> {
+            log.debug("Loading model of quiz \"{}\"", quizId);
+            return withConnection(connection -> quizRepository.getQuizModel(connection, quizId));
+        }, loadedQuizModel -> quizModels.put(key, loadedQuizModel));
+    }
+
+    private void updateQuizModel(String quizId, Consumer<QuizModel> update) {
+        var key = QuizShards.normalize(quizId);
+        quizModelLoads.forget(key);
+
+        var quizModel = quizModels.getIfPresent(key);
+        if (quizModel != null) {
+            update.accept(quizModel);
+        }
+    }
+
+    private void invalidateQuizModel(String quizId) {
+        var key = QuizShards.normalize(quizId);
+        quizModelLoads.forget(key);
+        quizModels.invalidate(key);
+    }
+
+    private void handleGetOne(Message<JsonObject> getOneQuizRequest) {
+        var body = getOneQuizRequest.body();
+        var quizId = body.getString("quizId");
+        var accountId = body.getString("accountId");
+        getQuizModel(quizId)
+                .onSuccess(quizModel -> HttpReply.reply(getOneQuizRequest, quizModel.toQuizDto(accountId), QuizDto::toBuffer))
+                .onFailure(cause -> handleFailure(cause, getOneQuizRequest));
+    }
+
+    private void handleComplete(Message<JsonObject> completeRequest) {
+        var body = completeRequest.body();
+        var accountId = body.getString("accountId");
+        var quizId = body.getString("quizId");
+
+        getQuizModel(quizId).compose(quizModel -> {
+            if (quizModel.isCreator(accountId)) {
+                log.debug("Account \"{}\" is creator of quiz \"{}\"", accountId, quizId);
+                return withTransaction(connection -> quizRepository.completeQuiz(connection, accountId, quizId)
+                        .compose(nothing -> quizRepository.getQuizResult(connection, quizId))
+                        .compose(quizResult -> quizRepository.saveQuizResultSnapshot(connection, quizResult)))
+                        .onSuccess(nothing -> {
+                            updateQuizModel(quizId, QuizModel::complete);
+                            vertx.eventBus().publish(QUIZ_COMPLETED_ADDRESS, quizId);
+                        });
+            } else {
+                log.debug("Account \"{}\" is not creator of quiz \"{}\"", accountId, quizId);
+                return Future.failedFuture(new ForbiddenException(String.format("Account \"%s\" is not allowed to close quiz \"%s\"", accountId, quizId)));
+            }
+        }).onSuccess(nothing -> {
+            log.debug("Successfully completed quiz");
+            completeRequest.reply(null);
+        }).onFailure(cause -> handleFailure(cause, completeRequest));
+    }
+
+    private void handleParticipate(Message<JsonObject> participateRequest) {
+        var body = participateRequest.body();
+        var accountId = body.getString("accountId");
+        var quizId = body.getString("quizId");
+
+        getQuizModel(quizId).compose(quizModel -> {
+            if (quizModel.participates(accountId)) {
+                var errorMessage = String.format("Account \"%s\" already has a list for quiz \"%s\"", accountId, quizId);
+                return Future.<String>failedFuture(new ConflictException(errorMessage));
+            }
+
+            return withTransaction(connection -> quizRepository.createList(connection, accountId, quizId))
+                    .onSuccess(listId -> invalidateQuizModel(quizId));
+        }).onSuccess(listId -> {
+            log.debug("Successfully let account participate in quiz");
+            participateRequest.reply(listId);
+        }).onFailure(cause -> handleFailure(cause, participateRequest));
+    }
+
+    private void handleGetAllParticipants(Message<JsonObject> getAllParticipantsRequest) {
+        var body = getAllParticipantsRequest.body();
+        var quizId = body.getString("quizId");
+        var accountId = body.getString("accountId");
+        getQuizModel(quizId)
+                .onSuccess(quizModel -> HttpReply.reply(getAllParticipantsRequest, quizModel.getParticipants(accountId), ParticipantDto::toBuffer, ParticipantDto::toJsonArray))
+                .onFailure(cause -> handleFailure(cause, getAllParticipantsRequest));
+    }
+
+    private void handleGetAllLists(Message<JsonObject> getAllListsRequest) {
+        var body = getAllListsRequest.body();
+        var quizId = body.getString("quizId");
+        var accountId = body.getString("accountId");
+
+        getQuizModel(quizId)
+                .map(quizModel -> ListsDto.builder()
+                        .lists(quizModel.getFinalizedLists(accountId))
+                        .build())
+                .recover(cause -> {
+                    if (cause instanceof NotFoundException) {
+                        return Future.succeededFuture(ListsDto.builder().build());
+                    }
+
+                    return Future.failedFuture(cause);
+                })
+                .onSuccess(listsDto -> HttpReply.reply(getAllListsRequest, listsDto, ListsDto::toBuffer))
+                .onFailure(cause -> handleFailure(cause, getAllListsRequest));
+    }
+
+    private void handleFinalizeList(Message<JsonObject> finalizeListRequest) {
+        var body = finalizeListRequest.body();
+        var accountId = body.getString("accountId");
+        var listId = body.getString("listId");
+        var quizId = body.getString("quizId");
+
+        getQuizModel(quizId).compose(quizModel -> {
+            if (!quizModel.hasList(listId)) {
+                log.debug("List \"{}\" not found", listId);
+                return Future.failedFuture(new NotFoundException(String.format("List \"%s\" not found", listId)));
+            } else if (!quizModel.isListCreator(accountId, listId)) {
+                return Future.failedFuture(new ForbiddenException(String.format("Account \"%s\" did not create list \"%s\"", accountId, listId)));
+            } else if (quizModel.getDeadline().isBefore(Instant.now())) {
+                log.debug("Deadline for quiz \"{}\" has passed", quizId);
+                return Future.failedFuture(new ForbiddenException(String.format("Deadline for quiz \"%s\" has passed", quizId)));
+            } else if (!quizModel.isActive()) {
+                log.debug("Quiz \"{}\" has ended", quizId);
+                return Future.failedFuture(new ForbiddenException(String.format("Quiz \"%s\" has ended", quizId)));
+            } else {
+                return withTransaction(connection -> listRepository.finalizeList(connection, listId))
+                        .onSuccess(nothing -> updateQuizModel(quizId, model -> model.finalizeList(listId)));
+            }
+        })
+                .onSuccess(finalizeListRequest::reply)
+                .onFailure(cause -> handleFailure(cause, finalizeListRequest));
+    }
+
+    private void handleAssignList(Message<JsonObject> assignListRequest) {
+        var body = assignListRequest.body();
+        var accountId = body.getString("accountId");
+        var listId = body.getString("listId");
+        var assigneeId = body.getString("assigneeId");
+        var quizId = body.getString("quizId");
+
+        getQuizModel(quizId).compose(quizModel -> {
+            if (!quizModel.hasList(listId)) {
+                log.debug("List \"{}\" not found", listId);
+                return Future.failedFuture(new NotFoundException(String.format("List \"%s\" not found", listId)));
+            } else if (quizModel.listHasDraftStatus(listId)) {
+                log.debug("User \"{}\" cannot assign \"{}\" to non-finalized list \"{}\"", accountId, assigneeId, listId);
+                return Future.failedFuture(new ForbiddenException(String.format("List \"%s\" has not been finalized yet", listId)));
+            } else if (!quizModel.isActive()) {
+                log.debug("User \"{}\" cannot assign to list \"{}\" of completed quiz \"{}\"", accountId, listId, quizId);
+                return Future.failedFuture(new ForbiddenException(String.format("Quiz \"%s\" is completed", quizId)));
+            } else if (!quizModel.canAccessList(accountId, listId, Instant.now())) {
+                log.debug("Account cannot access list");
+                return Future.failedFuture(new ForbiddenException(String.format("Account \"%s\" cannot access list \"%s\"", accountId, listId)));
+            } else if (!quizModel.participates(assigneeId)) {
+                log.debug("Account does not participate in quiz");
+                return Future.failedFuture(new ForbiddenException(String.format("Account \"%s\" does not participate in quiz \"%s\"", assigneeId, quizId)));
+            } else {
+                return withTransaction(connection -> listRepository.assignList(connection, accountId, listId, assigneeId))
+                        .onSuccess(nothing -> updateQuizModel(quizId, model -> model.assignList(accountId, listId, assigneeId)));
+            }
+        })
+                .onSuccess(assignListRequest::reply)
+                .onFailure(cause -> handleFailure(cause, assignListRequest));
+    }
+
+    private <T> void handleFailure(Throwable cause, Message<T> message) {
+        var errorMessage = cause.getMessage();
+        if (cause instanceof ForbiddenException) {
+            message.fail(403, errorMessage);
+        } else if (cause instanceof NotFoundException) {
+            message.fail(404, errorMessage);
+        } else if (cause instanceof ConflictException) {
+            message.fail(409, errorMessage);
+        } else {
+            log.error("An unexpected error occurred: " + errorMessage);
+            message.fail(500, errorMessage);
+        }
+    }
+}
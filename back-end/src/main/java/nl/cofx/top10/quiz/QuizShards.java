@@ -0,0 +1,44 @@
+package nl.cofx.top10.quiz;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import com.google.common.hash.Hashing;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class QuizShards {
+
+    public static final int NUMBER_OF_SHARDS = 16;
+
+    public int shardOf(String quizId) {
+        var hashCode = Hashing.murmur3_128().hashString(normalize(quizId), StandardCharsets.UTF_8);
+        return Hashing.consistentHash(hashCode, NUMBER_OF_SHARDS);
+    }
+
+    public String address(String address, String quizId) {
+        return address(address, shardOf(quizId));
+    }
+
+    public String address(String address, int shard) {
+        return address + ".shard." + shard;
+    }
+
+    public String lockName(int shard) {
+        return "quiz.shard." + shard;
+    }
+
+    public IntStream shards() {
+        return IntStream.range(0, NUMBER_OF_SHARDS);
+    }
+
+    public String normalize(String quizId) {
+        if (quizId == null) {
+            return "";
+        }
+
+        return quizId.replace("-", "").toLowerCase(Locale.ROOT);
+    }
+}
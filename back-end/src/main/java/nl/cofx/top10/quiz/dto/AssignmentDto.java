@@ -1,8 +1,11 @@
 package nl.cofx.top10.quiz.dto;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import lombok.Builder;
@@ -56,4 +59,32 @@ public class AssignmentDto {
                 .map(AssignmentDto::toJsonObject)
                 .collect(Collectors.toList()));
     }
+
+    static AssignmentDto readFrom(WireReader reader) {
+        return AssignmentDto.builder()
+                .listId(reader.readString())
+                .assigneeId(reader.readString())
+                .assigneeName(reader.readString())
+                .creatorId(reader.readString())
+                .creatorName(reader.readString())
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeString(listId)
+                .writeString(assigneeId)
+                .writeString(assigneeName)
+                .writeString(creatorId)
+                .writeString(creatorName);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("listId", listId);
+        generator.writeStringField("assigneeId", assigneeId);
+        generator.writeStringField("assigneeName", assigneeName);
+        generator.writeStringField("creatorId", creatorId);
+        generator.writeStringField("creatorName", creatorName);
+        generator.writeEndObject();
+    }
 }
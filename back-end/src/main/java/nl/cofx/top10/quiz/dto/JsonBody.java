@@ -0,0 +1,56 @@
+package nl.cofx.top10.quiz.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.vertx.core.buffer.Buffer;
+
+class JsonBody {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    interface Writer {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    interface ElementWriter<T> {
+        void write(T value, JsonGenerator generator) throws IOException;
+    }
+
+    static Buffer toBuffer(Writer writer) {
+        var outputStream = new ByteArrayOutputStream();
+        try (var generator = JSON_FACTORY.createGenerator(outputStream)) {
+            writer.write(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Buffer.buffer(outputStream.toByteArray());
+    }
+
+    static <T> void writeArrayField(JsonGenerator generator, String name, List<T> values, ElementWriter<T> elementWriter) throws IOException {
+        generator.writeFieldName(name);
+        writeArray(generator, values, elementWriter);
+    }
+
+    static <T> void writeArray(JsonGenerator generator, List<T> values, ElementWriter<T> elementWriter) throws IOException {
+        generator.writeStartArray();
+        for (var value : values) {
+            elementWriter.write(value, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    static void writeBooleanField(JsonGenerator generator, String name, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeBooleanField(name, value);
+        }
+    }
+}
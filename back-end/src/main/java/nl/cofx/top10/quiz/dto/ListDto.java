@@ -1,7 +1,11 @@
 package nl.cofx.top10.quiz.dto;
 
+import java.io.IOException;
 import java.util.List;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import lombok.Builder;
 import lombok.Value;
@@ -65,4 +69,66 @@ public class ListDto {
 
         return jsonObject;
     }
+
+    static ListDto readFrom(WireReader reader) {
+        return ListDto.builder()
+                .id(reader.readString())
+                .creatorId(reader.readString())
+                .creatorName(reader.readString())
+                .isOwnList(reader.readBoolean())
+                .quizId(reader.readString())
+                .isActiveQuiz(reader.readBoolean())
+                .assigneeId(reader.readString())
+                .assigneeName(reader.readString())
+                .hasDraftStatus(reader.readNullableBoolean())
+                .videos(reader.readList(VideoDto::readFrom))
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeString(id)
+                .writeString(creatorId)
+                .writeString(creatorName)
+                .writeBoolean(isOwnList)
+                .writeString(quizId)
+                .writeBoolean(isActiveQuiz)
+                .writeString(assigneeId)
+                .writeString(assigneeName)
+                .writeNullableBoolean(hasDraftStatus)
+                .writeList(videos, VideoDto::writeTo);
+    }
+
+    public Buffer toBuffer() {
+        return JsonBody.toBuffer(this::writeJson);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", id);
+        generator.writeBooleanField("isActiveQuiz", isActiveQuiz);
+        generator.writeBooleanField("isOwnList", isOwnList);
+
+        if (creatorId != null)
+            generator.writeStringField("creatorId", creatorId);
+
+        if (creatorName != null)
+            generator.writeStringField("creatorName", creatorName);
+
+        if (assigneeId != null)
+            generator.writeStringField("assigneeId", assigneeId);
+
+        if (assigneeName != null)
+            generator.writeStringField("assigneeName", assigneeName);
+
+        if (quizId != null)
+            generator.writeStringField("quizId", quizId);
+
+        if (hasDraftStatus != null)
+            generator.writeBooleanField("hasDraftStatus", hasDraftStatus);
+
+        if (videos != null)
+            JsonBody.writeArrayField(generator, "videos", videos, VideoDto::writeJson);
+
+        generator.writeEndObject();
+    }
 }
@@ -3,6 +3,7 @@ package nl.cofx.top10.quiz.dto;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import lombok.*;
 
@@ -30,4 +31,18 @@ public class ListsDto {
 
         return builder.build();
     }
+
+    static ListsDto readFrom(WireReader reader) {
+        return ListsDto.builder()
+                .lists(reader.readList(ListDto::readFrom))
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeList(lists, ListDto::writeTo);
+    }
+
+    public Buffer toBuffer() {
+        return JsonBody.toBuffer(generator -> JsonBody.writeArray(generator, lists, ListDto::writeJson));
+    }
 }
@@ -0,0 +1,71 @@
+package nl.cofx.top10.quiz.dto;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.*;
+
+@Value
+@Builder
+public class ParticipantDto {
+
+    String id;
+    String name;
+    Boolean listHasDraftStatus;
+    @Singular
+    List<String> assignedLists;
+    boolean isOwnAccount;
+
+    public JsonObject toJsonObject() {
+        return new JsonObject()
+                .put("id", id)
+                .put("name", name)
+                .put("listHasDraftStatus", listHasDraftStatus)
+                .put("assignedLists", new JsonArray(assignedLists))
+                .put("isOwnAccount", isOwnAccount);
+    }
+
+    public static JsonArray toJsonArray(List<ParticipantDto> participants) {
+        return new JsonArray(participants.stream()
+                .map(ParticipantDto::toJsonObject)
+                .collect(Collectors.toList()));
+    }
+
+    public static Buffer toBuffer(List<ParticipantDto> participants) {
+        return JsonBody.toBuffer(generator -> JsonBody.writeArray(generator, participants, ParticipantDto::writeJson));
+    }
+
+    static ParticipantDto readFrom(WireReader reader) {
+        return ParticipantDto.builder()
+                .id(reader.readString())
+                .name(reader.readString())
+                .listHasDraftStatus(reader.readNullableBoolean())
+                .assignedLists(reader.readList(WireReader::readString))
+                .isOwnAccount(reader.readBoolean())
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeString(id)
+                .writeString(name)
+                .writeNullableBoolean(listHasDraftStatus)
+                .writeList(assignedLists, (assignedList, elementWriter) -> elementWriter.writeString(assignedList))
+                .writeBoolean(isOwnAccount);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", id);
+        generator.writeStringField("name", name);
+        JsonBody.writeBooleanField(generator, "listHasDraftStatus", listHasDraftStatus);
+        JsonBody.writeArrayField(generator, "assignedLists", assignedLists, (assignedList, elementGenerator) -> elementGenerator.writeString(assignedList));
+        generator.writeBooleanField("isOwnAccount", isOwnAccount);
+        generator.writeEndObject();
+    }
+}
@@ -1,7 +1,10 @@
 package nl.cofx.top10.quiz.dto;
 
+import java.io.IOException;
 import java.util.*;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import io.vertx.core.json.JsonObject;
 import lombok.*;
 
@@ -56,4 +59,29 @@ public class PersonalResultDto {
 
         return jsonObject;
     }
+
+    static PersonalResultDto readFrom(WireReader reader) {
+        return PersonalResultDto.builder()
+                .accountId(reader.readString())
+                .name(reader.readString())
+                .correctAssignments(reader.readList(AssignmentDto::readFrom))
+                .incorrectAssignments(reader.readList(AssignmentDto::readFrom))
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeString(accountId)
+                .writeString(name)
+                .writeList(correctAssignments, AssignmentDto::writeTo)
+                .writeList(incorrectAssignments, AssignmentDto::writeTo);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("accountId", accountId);
+        generator.writeStringField("name", name);
+        JsonBody.writeArrayField(generator, "correctAssignments", correctAssignments, AssignmentDto::writeJson);
+        JsonBody.writeArrayField(generator, "incorrectAssignments", incorrectAssignments, AssignmentDto::writeJson);
+        generator.writeEndObject();
+    }
 }
@@ -1,7 +1,11 @@
 package nl.cofx.top10.quiz.dto;
 
+import java.io.IOException;
 import java.time.Instant;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import lombok.Builder;
 import lombok.Value;
@@ -50,4 +54,52 @@ public class QuizDto {
 
         return jsonObject;
     }
+
+    static QuizDto readFrom(WireReader reader) {
+        return QuizDto.builder()
+                .id(reader.readString())
+                .name(reader.readString())
+                .isActive(reader.readBoolean())
+                .creatorId(reader.readString())
+                .isCreator(reader.readBoolean())
+                .deadline(reader.readInstant())
+                .personalListId(reader.readString())
+                .personalListHasDraftStatus(reader.readNullableBoolean())
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeString(id)
+                .writeString(name)
+                .writeBoolean(isActive)
+                .writeString(creatorId)
+                .writeBoolean(isCreator)
+                .writeInstant(deadline)
+                .writeString(personalListId)
+                .writeNullableBoolean(personalListHasDraftStatus);
+    }
+
+    public Buffer toBuffer() {
+        return JsonBody.toBuffer(this::writeJson);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", id);
+        generator.writeStringField("name", name);
+        generator.writeBooleanField("isActive", isActive);
+        generator.writeStringField("creatorId", creatorId);
+        generator.writeBooleanField("isCreator", isCreator);
+        generator.writeStringField("deadline", deadline == null ? null : deadline.toString());
+
+        if (personalListId != null) {
+            generator.writeStringField("personalListId", personalListId);
+        }
+
+        if (personalListHasDraftStatus != null) {
+            generator.writeBooleanField("personalListHasDraftStatus", personalListHasDraftStatus);
+        }
+
+        generator.writeEndObject();
+    }
 }
@@ -3,6 +3,7 @@ package nl.cofx.top10.quiz.dto;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import lombok.*;
 
@@ -30,4 +31,18 @@ public class QuizzesDto {
 
         return builder.build();
     }
+
+    static QuizzesDto readFrom(WireReader reader) {
+        return QuizzesDto.builder()
+                .quizzes(reader.readList(QuizDto::readFrom))
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeList(quizzes, QuizDto::writeTo);
+    }
+
+    public Buffer toBuffer() {
+        return JsonBody.toBuffer(generator -> JsonBody.writeArray(generator, quizzes, QuizDto::writeJson));
+    }
 }
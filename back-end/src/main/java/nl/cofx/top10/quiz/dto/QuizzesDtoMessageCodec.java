@@ -2,27 +2,17 @@ package nl.cofx.top10.quiz.dto;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
-import io.vertx.core.json.JsonArray;
 
 public class QuizzesDtoMessageCodec implements MessageCodec<QuizzesDto, QuizzesDto> {
 
     @Override
     public void encodeToWire(Buffer buffer, QuizzesDto quizzesDto) {
-        var jsonArray = quizzesDto.toJsonArray();
-        var string = jsonArray.encode();
-        var length = string.getBytes().length;
-
-        buffer.appendInt(length);
-        buffer.appendString(string);
+        quizzesDto.writeTo(WireWriter.versioned(buffer));
     }
 
     @Override
     public QuizzesDto decodeFromWire(int pos, Buffer buffer) {
-        var length = buffer.getInt(pos);
-        var string = buffer.getString(pos + 4, pos + 4 + length);
-        var jsonArray = new JsonArray(string);
-
-        return QuizzesDto.fromJsonArray(jsonArray);
+        return QuizzesDto.readFrom(WireReader.versioned(pos, buffer));
     }
 
     @Override
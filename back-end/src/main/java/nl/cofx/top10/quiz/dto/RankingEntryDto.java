@@ -1,5 +1,9 @@
 package nl.cofx.top10.quiz.dto;
 
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import io.vertx.core.json.JsonObject;
 import lombok.Builder;
 import lombok.Value;
@@ -13,6 +17,15 @@ public class RankingEntryDto {
     String name;
     int numberOfCorrectAssignments;
 
+    public static RankingEntryDto fromJsonObject(JsonObject jsonObject) {
+        return RankingEntryDto.builder()
+                .rank(jsonObject.getInteger("rank"))
+                .accountId(jsonObject.getString("accountId"))
+                .name(jsonObject.getString("name"))
+                .numberOfCorrectAssignments(jsonObject.getInteger("numberOfCorrectAssignments"))
+                .build();
+    }
+
     public JsonObject toJsonObject() {
         return new JsonObject()
                 .put("rank", rank)
@@ -20,4 +33,29 @@ public class RankingEntryDto {
                 .put("name", name)
                 .put("numberOfCorrectAssignments", numberOfCorrectAssignments);
     }
+
+    static RankingEntryDto readFrom(WireReader reader) {
+        return RankingEntryDto.builder()
+                .rank(reader.readInt())
+                .accountId(reader.readString())
+                .name(reader.readString())
+                .numberOfCorrectAssignments(reader.readInt())
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeInt(rank)
+                .writeString(accountId)
+                .writeString(name)
+                .writeInt(numberOfCorrectAssignments);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("rank", rank);
+        generator.writeStringField("accountId", accountId);
+        generator.writeStringField("name", name);
+        generator.writeNumberField("numberOfCorrectAssignments", numberOfCorrectAssignments);
+        generator.writeEndObject();
+    }
 }
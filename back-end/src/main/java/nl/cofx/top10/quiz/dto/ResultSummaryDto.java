@@ -1,26 +1,43 @@
 package nl.cofx.top10.quiz.dto;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Value;
 
 @Value
 @Builder
 public class ResultSummaryDto {
 
+    private static final byte RANKING_VERSION = 2;
+
     String quizId;
     @Builder.Default
     Map<String, PersonalResultDto> personalResults = new HashMap<>();
+    @EqualsAndHashCode.Exclude
+    List<RankingEntryDto> ranking;
 
     private int getNumberOfCorrectAssignments(PersonalResultDto personalResultDto) {
         return personalResultDto.getCorrectAssignments().size();
     }
 
     public List<RankingEntryDto> getRanking() {
+        if (ranking != null) {
+            return ranking;
+        }
+
+        return computeRanking();
+    }
+
+    private List<RankingEntryDto> computeRanking() {
         var results = new ArrayList<>(personalResults.values());
         results.sort(Comparator.comparing(this::getNumberOfCorrectAssignments).reversed());
 
@@ -60,9 +77,19 @@ public class ResultSummaryDto {
 
     public static ResultSummaryDto fromJsonObject(JsonObject jsonObject) {
         var personalResults = PersonalResultDto.toPersonalResults(jsonObject.getJsonObject("personalResults"));
+        var rankingEntries = jsonObject.getJsonArray("ranking");
+        List<RankingEntryDto> ranking = null;
+        if (rankingEntries != null) {
+            ranking = new ArrayList<>(rankingEntries.size());
+            for (var i = 0; i < rankingEntries.size(); ++i) {
+                ranking.add(RankingEntryDto.fromJsonObject(rankingEntries.getJsonObject(i)));
+            }
+        }
+
         return ResultSummaryDto.builder()
                 .quizId(jsonObject.getString("quizId"))
                 .personalResults(personalResults)
+                .ranking(ranking)
                 .build();
     }
 
@@ -74,4 +101,44 @@ public class ResultSummaryDto {
                         .map(RankingEntryDto::toJsonObject)
                         .collect(Collectors.toList())));
     }
+
+    static ResultSummaryDto readFrom(WireReader reader) {
+        var quizId = reader.readString();
+        var personalResults = new HashMap<String, PersonalResultDto>();
+        reader.readList(entryReader -> Map.entry(entryReader.readString(), PersonalResultDto.readFrom(entryReader)))
+                .forEach(entry -> personalResults.put(entry.getKey(), entry.getValue()));
+        var ranking = reader.getVersion() >= RANKING_VERSION ? reader.readList(RankingEntryDto::readFrom) : null;
+
+        return ResultSummaryDto.builder()
+                .quizId(quizId)
+                .personalResults(personalResults)
+                .ranking(ranking)
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeString(quizId)
+                .writeList(new ArrayList<>(personalResults.entrySet()), (entry, entryWriter) -> {
+                    entryWriter.writeString(entry.getKey());
+                    entry.getValue().writeTo(entryWriter);
+                })
+                .writeList(getRanking(), RankingEntryDto::writeTo);
+    }
+
+    public Buffer toBuffer() {
+        return JsonBody.toBuffer(this::writeJson);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("quizId", quizId);
+        generator.writeObjectFieldStart("personalResults");
+        for (var entry : personalResults.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            entry.getValue().writeJson(generator);
+        }
+        generator.writeEndObject();
+        JsonBody.writeArrayField(generator, "ranking", getRanking(), RankingEntryDto::writeJson);
+        generator.writeEndObject();
+    }
 }
@@ -1,9 +1,12 @@
 package nl.cofx.top10.quiz.dto;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import lombok.Builder;
@@ -50,4 +53,26 @@ public class VideoDto {
 
         return new JsonArray(jsonObjects);
     }
+
+    static VideoDto readFrom(WireReader reader) {
+        return VideoDto.builder()
+                .id(reader.readString())
+                .url(reader.readString())
+                .referenceId(reader.readString())
+                .build();
+    }
+
+    void writeTo(WireWriter writer) {
+        writer.writeString(id)
+                .writeString(url)
+                .writeString(referenceId);
+    }
+
+    void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", id);
+        generator.writeStringField("url", url);
+        generator.writeStringField("referenceId", referenceId);
+        generator.writeEndObject();
+    }
 }
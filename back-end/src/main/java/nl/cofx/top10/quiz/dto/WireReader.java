@@ -0,0 +1,92 @@
+package nl.cofx.top10.quiz.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.vertx.core.buffer.Buffer;
+
+class WireReader {
+
+    private static final byte MINIMUM_VERSION = 1;
+
+    private final Buffer buffer;
+    private final byte version;
+    private int pos;
+
+    private WireReader(Buffer buffer, byte version, int pos) {
+        this.buffer = buffer;
+        this.version = version;
+        this.pos = pos;
+    }
+
+    static WireReader versioned(int pos, Buffer buffer) {
+        var version = buffer.getByte(pos);
+        if (version < MINIMUM_VERSION || version > WireWriter.VERSION) {
+            throw new IllegalStateException(String.format("Unsupported wire format version: %d", version));
+        }
+
+        return new WireReader(buffer, version, pos + 1);
+    }
+
+    byte getVersion() {
+        return version;
+    }
+
+    int readInt() {
+        var value = buffer.getInt(pos);
+        pos += 4;
+        return value;
+    }
+
+    boolean readBoolean() {
+        return buffer.getByte(pos++) == 1;
+    }
+
+    Boolean readNullableBoolean() {
+        var value = buffer.getByte(pos++);
+        if (value < 0) {
+            return null;
+        }
+
+        return value == 1;
+    }
+
+    String readString() {
+        var length = readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        var value = new String(buffer.getBytes(pos, pos + length), StandardCharsets.UTF_8);
+        pos += length;
+        return value;
+    }
+
+    Instant readInstant() {
+        if (buffer.getByte(pos++) == 0) {
+            return null;
+        }
+
+        var epochSecond = buffer.getLong(pos);
+        var nano = buffer.getInt(pos + 8);
+        pos += 12;
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
+
+    <T> List<T> readList(Function<WireReader, T> elementReader) {
+        var size = readInt();
+        if (size < 0) {
+            return null;
+        }
+
+        var values = new ArrayList<T>(size);
+        for (var i = 0; i < size; ++i) {
+            values.add(elementReader.apply(this));
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,85 @@
+package nl.cofx.top10.quiz.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import io.vertx.core.buffer.Buffer;
+
+class WireWriter {
+
+    static final byte VERSION = 2;
+
+    private static final int NULL_LENGTH = -1;
+    private static final byte NULL_BOOLEAN = -1;
+
+    private final Buffer buffer;
+
+    private WireWriter(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    static WireWriter versioned(Buffer buffer) {
+        return versioned(buffer, VERSION);
+    }
+
+    static WireWriter versioned(Buffer buffer, byte version) {
+        buffer.appendByte(version);
+        return new WireWriter(buffer);
+    }
+
+    WireWriter writeInt(int value) {
+        buffer.appendInt(value);
+        return this;
+    }
+
+    WireWriter writeBoolean(boolean value) {
+        buffer.appendByte(value ? (byte) 1 : (byte) 0);
+        return this;
+    }
+
+    WireWriter writeNullableBoolean(Boolean value) {
+        if (value == null) {
+            buffer.appendByte(NULL_BOOLEAN);
+            return this;
+        }
+
+        return writeBoolean(value);
+    }
+
+    WireWriter writeString(String value) {
+        if (value == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return this;
+        }
+
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.appendInt(bytes.length);
+        buffer.appendBytes(bytes);
+        return this;
+    }
+
+    WireWriter writeInstant(Instant value) {
+        if (value == null) {
+            buffer.appendByte((byte) 0);
+            return this;
+        }
+
+        buffer.appendByte((byte) 1);
+        buffer.appendLong(value.getEpochSecond());
+        buffer.appendInt(value.getNano());
+        return this;
+    }
+
+    <T> WireWriter writeList(List<T> values, BiConsumer<T, WireWriter> elementWriter) {
+        if (values == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return this;
+        }
+
+        buffer.appendInt(values.size());
+        values.forEach(value -> elementWriter.accept(value, this));
+        return this;
+    }
+}
@@ -1,15 +1,35 @@
 package nl.cofx.top10.random;
 
-import org.apache.commons.math3.random.RandomDataGenerator;
+import java.security.SecureRandom;
 
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class TokenGenerator {
 
-    private final RandomDataGenerator randomDataGenerator = new RandomDataGenerator();
+    private final int TOKEN_LENGTH = 32;
+    private final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<Generator> generator = ThreadLocal.withInitial(Generator::new);
 
     public String generateToken() {
-        return randomDataGenerator.nextSecureHexString(32);
+        return generator.get().generateToken();
+    }
+
+    private static class Generator {
+
+        private final SecureRandom secureRandom = new SecureRandom();
+        private final byte[] bytes = new byte[TOKEN_LENGTH / 2];
+        private final char[] characters = new char[TOKEN_LENGTH];
+
+        String generateToken() {
+            secureRandom.nextBytes(bytes);
+            for (var i = 0; i < bytes.length; ++i) {
+                characters[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+                characters[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+            }
+
+            return new String(characters);
+        }
     }
 }
@@ -0,0 +1,83 @@
+package nl.cofx.top10.session;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.ServiceUnavailableException;
+import nl.cofx.top10.ValidationException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static nl.cofx.top10.session.SessionConfiguration.*;
+
+@Slf4j
+public class ExternalUserExchange {
+
+    private final Vertx vertx;
+    private final GoogleOauth2 googleOauth2;
+    private final MicrosoftOauth2 microsoftOauth2;
+    private final WorkerExecutor workerExecutor;
+    private final long timeoutInMillis;
+    private final int maximumNumberOfConcurrentExchanges;
+    private final AtomicInteger numberOfConcurrentExchanges = new AtomicInteger();
+
+    public ExternalUserExchange(Vertx vertx, GoogleOauth2 googleOauth2, MicrosoftOauth2 microsoftOauth2) {
+        this(vertx, googleOauth2, microsoftOauth2, EXTERNAL_USER_EXCHANGE_TIMEOUT_IN_MILLIS, MAXIMUM_NUMBER_OF_CONCURRENT_EXTERNAL_USER_EXCHANGES);
+    }
+
+    ExternalUserExchange(Vertx vertx, GoogleOauth2 googleOauth2, MicrosoftOauth2 microsoftOauth2, long timeoutInMillis, int maximumNumberOfConcurrentExchanges) {
+        this.vertx = vertx;
+        this.googleOauth2 = googleOauth2;
+        this.microsoftOauth2 = microsoftOauth2;
+        this.timeoutInMillis = timeoutInMillis;
+        this.maximumNumberOfConcurrentExchanges = maximumNumberOfConcurrentExchanges;
+        workerExecutor = vertx.createSharedWorkerExecutor(EXTERNAL_USER_EXCHANGE_POOL_NAME, EXTERNAL_USER_EXCHANGE_POOL_SIZE, timeoutInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Future<JsonObject> getUser(String provider, String code) {
+        Callable<JsonObject> exchange;
+        switch (provider == null ? "" : provider) {
+            case "google" -> exchange = () -> googleOauth2.getUser(code);
+            case "microsoft" -> exchange = () -> microsoftOauth2.getUser(code);
+            default -> {
+                return Future.failedFuture(new ValidationException(String.format("Invalid login provider: \"%s\"", provider)));
+            }
+        }
+
+        if (numberOfConcurrentExchanges.incrementAndGet() > maximumNumberOfConcurrentExchanges) {
+            numberOfConcurrentExchanges.decrementAndGet();
+            log.warn("Rejecting exchange with provider \"{}\" because {} exchanges are in progress", provider, maximumNumberOfConcurrentExchanges);
+            return Future.failedFuture(new ServiceUnavailableException("Too many concurrent log-in attempts"));
+        }
+
+        Promise<JsonObject> promise = Promise.promise();
+        var timerId = vertx.setTimer(timeoutInMillis, id -> {
+            log.warn("Exchange with provider \"{}\" did not complete within {} ms", provider, timeoutInMillis);
+            promise.tryFail(new ServiceUnavailableException(String.format("Log-in provider \"%s\" did not respond in time", provider)));
+        });
+
+        workerExecutor.<JsonObject>executeBlocking(() -> {
+            if (promise.future().isComplete()) {
+                log.debug("Skipping exchange with provider \"{}\" that timed out before it started", provider);
+                return null;
+            }
+
+            return exchange.call();
+        }, false).onComplete(asyncUser -> {
+            numberOfConcurrentExchanges.decrementAndGet();
+            vertx.cancelTimer(timerId);
+            if (asyncUser.failed()) {
+                promise.tryFail(asyncUser.cause());
+            } else {
+                promise.tryComplete(asyncUser.result());
+            }
+        });
+
+        return promise.future();
+    }
+}
@@ -25,11 +25,19 @@ public class GoogleOauth2 {
     private final String clientId;
     private final String clientSecret;
     private final String redirectUri;
+    private final String tokenUrl;
+    private final int timeoutInMillis;
 
     public GoogleOauth2(Config config) {
+        this(config, SessionConfiguration.EXTERNAL_USER_EXCHANGE_TIMEOUT_IN_MILLIS);
+    }
+
+    GoogleOauth2(Config config, long timeoutInMillis) {
         clientId = config.getGoogleOauth2ClientId();
         clientSecret = config.getGoogleOauth2ClientSecret();
         redirectUri = config.getGoogleOauth2RedirectUri();
+        tokenUrl = config.getGoogleOauth2TokenUrl();
+        this.timeoutInMillis = Math.toIntExact(timeoutInMillis);
         googleIdTokenVerifier = new GoogleIdTokenVerifier.Builder(HTTP_TRANSPORT, JSON_FACTORY)
                 .setAudience(Collections.singletonList(clientId))
                 .build();
@@ -53,7 +61,10 @@ public class GoogleOauth2 {
 
     private GoogleIdToken getIdToken(String code) {
         try {
-            var request = new GoogleAuthorizationCodeTokenRequest(HTTP_TRANSPORT, JSON_FACTORY, clientId, clientSecret, code, redirectUri);
+            var request = new GoogleAuthorizationCodeTokenRequest(HTTP_TRANSPORT, JSON_FACTORY, tokenUrl, clientId, clientSecret, code, redirectUri)
+                    .setRequestInitializer(httpRequest -> httpRequest
+                            .setConnectTimeout(timeoutInMillis)
+                            .setReadTimeout(timeoutInMillis));
             var idTokenString = request.execute().getIdToken();
 
             return googleIdTokenVerifier.verify(idTokenString);
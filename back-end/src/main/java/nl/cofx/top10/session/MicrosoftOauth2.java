@@ -1,27 +1,59 @@
 package nl.cofx.top10.session;
 
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.http.HttpClient;
+import com.azure.core.util.HttpClientOptions;
 import com.azure.identity.AuthorizationCodeCredentialBuilder;
+import com.microsoft.graph.core.requests.BaseGraphRequestAdapter;
+import com.microsoft.graph.core.requests.GraphClientFactory;
 import com.microsoft.graph.models.User;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.kiota.authentication.AzureIdentityAuthenticationProvider;
 import io.vertx.core.json.JsonObject;
 import nl.cofx.top10.config.Config;
+import okhttp3.OkHttpClient;
+
+import java.time.Duration;
 
 public class MicrosoftOauth2 {
 
     private static final String[] SCOPES = {"openid", "offline_access", "User.Read"};
+    private static final String[] ALLOWED_HOSTS = {};
+    private static final String GRAPH_VERSION = "v1.0";
 
     private final String clientId;
     private final String clientSecret;
     private final String redirectUri;
+    private final String authorityHost;
+    private final String graphUrl;
+    private final HttpClient tokenHttpClient;
+    private final OkHttpClient graphHttpClient;
 
     public MicrosoftOauth2(Config config) {
+        this(config, SessionConfiguration.EXTERNAL_USER_EXCHANGE_TIMEOUT_IN_MILLIS);
+    }
+
+    MicrosoftOauth2(Config config, long timeoutInMillis) {
         clientId = config.getMicrosoftOauth2ClientId();
         clientSecret = config.getMicrosoftOauth2ClientSecret();
         redirectUri = config.getMicrosoftOauth2RedirectUri();
+        authorityHost = config.getMicrosoftOauth2AuthorityHost();
+        graphUrl = config.getMicrosoftGraphUrl();
+
+        var timeout = Duration.ofMillis(timeoutInMillis);
+        tokenHttpClient = HttpClient.createDefault(new HttpClientOptions()
+                .setConnectTimeout(timeout)
+                .setReadTimeout(timeout)
+                .setResponseTimeout(timeout));
+        graphHttpClient = GraphClientFactory.create()
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .callTimeout(timeout)
+                .build();
     }
 
     public JsonObject getUser(String code) {
-        var user = getUserFromGraph(code);
+        var user = getUserFromGraph(getCredential(code));
 
         return new JsonObject()
                 .put("name", user.getDisplayName())
@@ -30,17 +62,23 @@ public class MicrosoftOauth2 {
                 .put("provider", "microsoft");
     }
 
-    private User getUserFromGraph(String code) {
-        var authProvider = new AuthorizationCodeCredentialBuilder()
+    private TokenCredential getCredential(String code) {
+        return new AuthorizationCodeCredentialBuilder()
                 .clientId(clientId)
                 .clientSecret(clientSecret)
                 .authorizationCode(code)
                 .redirectUrl(redirectUri)
+                .authorityHost(authorityHost)
                 .tenantId("common")
+                .httpClient(tokenHttpClient)
                 .build();
+    }
 
-        var graphServiceClient = new GraphServiceClient(authProvider, SCOPES);
+    User getUserFromGraph(TokenCredential credential) {
+        var authenticationProvider = new AzureIdentityAuthenticationProvider(credential, ALLOWED_HOSTS, SCOPES);
+        var requestAdapter = new BaseGraphRequestAdapter(authenticationProvider, BaseGraphRequestAdapter.Clouds.GLOBAL_CLOUD, GRAPH_VERSION, graphHttpClient);
+        requestAdapter.setBaseUrl(graphUrl);
 
-        return graphServiceClient.me().get();
+        return new GraphServiceClient(requestAdapter).me().get();
     }
 }
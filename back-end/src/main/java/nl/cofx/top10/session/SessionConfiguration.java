@@ -4,4 +4,8 @@ public class SessionConfiguration {
 
     static final long SESSION_EXPIRATION_IN_SECONDS = 8 * 60 * 60;
     static final String JWT_COOKIE_NAME = "jwt";
+    static final String EXTERNAL_USER_EXCHANGE_POOL_NAME = "external-user-exchange";
+    static final int EXTERNAL_USER_EXCHANGE_POOL_SIZE = 8;
+    static final long EXTERNAL_USER_EXCHANGE_TIMEOUT_IN_MILLIS = 10_000;
+    static final int MAXIMUM_NUMBER_OF_CONCURRENT_EXTERNAL_USER_EXCHANGES = 32;
 }
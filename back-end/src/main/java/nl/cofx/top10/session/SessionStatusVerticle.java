@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.jwt.Jwt;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 
@@ -36,6 +37,7 @@ public class SessionStatusVerticle extends AbstractVerticle {
     private final Router router;
     private final SecretKey secretKey;
     private final boolean useSecureCookies;
+    private final double sessionRefreshFraction;
 
     @Override
     public void start() {
@@ -64,12 +66,19 @@ public class SessionStatusVerticle extends AbstractVerticle {
             return;
         }
 
-        log.debug("Extending expiration date of session cookie");
-
         var body = jws.getPayload();
         var subject = body.getSubject();
         var name = (String) body.get("name");
         var emailAddress = (String) body.get("emailAddress");
+
+        if (!needsRefresh(body.getExpiration())) {
+            log.debug("Reusing session cookie that is not due for refresh");
+            response.end(validSession(existingCookie.getValue(), name, emailAddress));
+            return;
+        }
+
+        log.debug("Extending expiration date of session cookie");
+
         var jwt = Jwts.builder()
                 .expiration(Date.from(Instant.now().plusSeconds(SESSION_EXPIRATION_IN_SECONDS)))
                 .subject(subject)
@@ -91,6 +100,15 @@ public class SessionStatusVerticle extends AbstractVerticle {
         response.end(validSession(jwt, name, emailAddress));
     }
 
+    private boolean needsRefresh(Date expiration) {
+        if (expiration == null) {
+            return true;
+        }
+
+        var remainingSeconds = Duration.between(Instant.now(), expiration.toInstant()).toSeconds();
+        return remainingSeconds <= SESSION_EXPIRATION_IN_SECONDS * (1 - sessionRefreshFraction);
+    }
+
     private Buffer validSession(String token, String name, String emailAddress) {
         return new JsonObject()
                 .put("status", "VALID_SESSION")
@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nl.cofx.top10.InternalServerErrorException;
 import nl.cofx.top10.ValidationException;
+import nl.cofx.top10.eventbus.RequestMetrics;
 
 import javax.crypto.SecretKey;
 import java.time.Instant;
@@ -33,10 +34,14 @@ public class SessionVerticle extends AbstractVerticle {
     private final SecretKey secretKey;
     private final boolean useSecureCookies;
 
+    private ExternalUserExchange externalUserExchange;
+
     @Override
     public void start() {
         log.info("Starting");
 
+        externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2);
+
         router.route(HttpMethod.POST, "/session/logIn").handler(BodyHandler.create());
         router.route(HttpMethod.POST, "/session/logIn").handler(this::handleLogIn);
         router.route(HttpMethod.POST, "/session/logOut").handler(this::handleLogOut);
@@ -52,14 +57,19 @@ public class SessionVerticle extends AbstractVerticle {
 
         var loginProvider = requestBody.getString("provider");
         var code = requestBody.getString("code");
-        var externalUser = getExternalUser(loginProvider, code);
+        externalUserExchange.getUser(loginProvider, code)
+                .onSuccess(externalUser -> logIn(externalUser, routingContext))
+                .onFailure(routingContext::fail);
+    }
 
-        vertx.eventBus().request(EXTERNAL_LOGIN_ADDRESS, externalUser, reply -> {
+    private void logIn(JsonObject externalUser, RoutingContext routingContext) {
+        vertx.eventBus().request(EXTERNAL_LOGIN_ADDRESS, externalUser, RequestMetrics.timed(EXTERNAL_LOGIN_ADDRESS, reply -> {
             if (reply.failed()) {
                 var id = externalUser.getString("id");
                 var provider = externalUser.getString("provider");
                 var errorMessage = String.format("Unable to retrieve account ID for external ID \"%s\" and provider \"%s\"", id, provider);
                 routingContext.fail(new InternalServerErrorException(errorMessage, reply.cause()));
+                return;
             }
 
             var account = (JsonObject) reply.result().body();
@@ -82,15 +92,7 @@ public class SessionVerticle extends AbstractVerticle {
                     .putHeader("content-type", "application/json")
                     .addCookie(cookie)
                     .end(sessionCreated(jwt, account));
-        });
-    }
-
-    private JsonObject getExternalUser(String provider, String code) {
-        return switch (provider) {
-            case "google" -> googleOauth2.getUser(code);
-            case "microsoft" -> microsoftOauth2.getUser(code);
-            default -> throw new ValidationException(String.format("Invalid login provider: \"%s\"", provider));
-        };
+        }));
     }
 
     private void handleLogOut(RoutingContext routingContext) {
@@ -1,5 +1,7 @@
 package nl.cofx.top10.session.csrf;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
@@ -12,6 +14,8 @@ import nl.cofx.top10.jwt.Jwt;
 import nl.cofx.top10.random.TokenGenerator;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Set;
 
 @Slf4j
@@ -32,13 +36,15 @@ public class CsrfTokenHandler implements Handler<RoutingContext> {
     private final Jwt jwt;
     private final SecretKey secretKey;
     private final boolean useSecureCookies;
+    private final long csrfTokenRotationAgeInSeconds;
 
     @Override
     public void handle(RoutingContext routingContext) {
         log.debug("Validating CSRF token");
 
         var request = routingContext.request();
-        if (!METHODS_TO_IGNORE.contains(request.method()) && !hasValidCsrfToken(request)) {
+        var csrfJws = getCsrfJws(request);
+        if (!METHODS_TO_IGNORE.contains(request.method()) && !hasValidCsrfToken(csrfJws, request)) {
             log.debug("Invalid CSRF token");
 
             routingContext.response()
@@ -51,18 +57,26 @@ public class CsrfTokenHandler implements Handler<RoutingContext> {
 
         log.debug("CSRF token not required or valid CSRF token");
 
-        setCsrfTokens(routingContext.response());
+        var response = routingContext.response();
+        if (isReusable(csrfJws)) {
+            reuseCsrfToken(csrfJws, response);
+        } else {
+            setCsrfTokens(response);
+        }
 
         routingContext.next();
     }
 
-    private boolean hasValidCsrfToken(HttpServerRequest request) {
+    private Jws<Claims> getCsrfJws(HttpServerRequest request) {
         var cookie = request.getCookie(CSRF_TOKEN_COOKIE_NAME);
         if (cookie == null) {
-            return false;
+            return null;
         }
 
-        var csrfJws = jwt.getJws(cookie.getValue());
+        return jwt.getJws(cookie.getValue());
+    }
+
+    private boolean hasValidCsrfToken(Jws<Claims> csrfJws, HttpServerRequest request) {
         if (csrfJws == null) {
             return false;
         }
@@ -77,6 +91,25 @@ public class CsrfTokenHandler implements Handler<RoutingContext> {
         return tokenInJws.equals(tokenInHeader);
     }
 
+    private boolean isReusable(Jws<Claims> csrfJws) {
+        if (csrfJws == null || csrfJws.getPayload().get(CSRF_TOKEN_CLAIM_NAME, String.class) == null) {
+            return false;
+        }
+
+        var issuedAt = csrfJws.getPayload().getIssuedAt();
+        if (issuedAt == null) {
+            return false;
+        }
+
+        return issuedAt.toInstant().plusSeconds(csrfTokenRotationAgeInSeconds).isAfter(Instant.now());
+    }
+
+    private void reuseCsrfToken(Jws<Claims> csrfJws, HttpServerResponse response) {
+        log.debug("Reusing CSRF token in header");
+
+        response.putHeader(CSRF_TOKEN_HEADER_NAME, csrfJws.getPayload().get(CSRF_TOKEN_CLAIM_NAME, String.class));
+    }
+
     private void setCsrfTokens(HttpServerResponse response) {
         log.debug("Setting CSRF token in header and cookie");
 
@@ -85,6 +118,7 @@ public class CsrfTokenHandler implements Handler<RoutingContext> {
 
         var jwt = Jwts.builder()
                 .claim(CSRF_TOKEN_CLAIM_NAME, token)
+                .issuedAt(new Date())
                 .signWith(secretKey, Jwts.SIG.HS512)
                 .compact();
 
@@ -0,0 +1,62 @@
+package nl.cofx.top10.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.vertx.core.json.JsonObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+public class FileSpanExporter implements SpanExporter {
+
+    private final Path path;
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        var lines = new StringBuilder();
+        spans.forEach(span -> lines.append(toJson(span).encode()).append('\n'));
+
+        try {
+            Files.writeString(path, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException exception) {
+            log.error("Unable to export {} spans to \"{}\"", spans.size(), path, exception);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    static JsonObject toJson(SpanData span) {
+        var attributes = new JsonObject();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+
+        return new JsonObject()
+                .put("traceId", span.getTraceId())
+                .put("spanId", span.getSpanId())
+                .put("parentSpanId", span.getParentSpanId())
+                .put("name", span.getName())
+                .put("kind", span.getKind().name())
+                .put("startEpochNanos", span.getStartEpochNanos())
+                .put("durationMicros", TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()))
+                .put("status", span.getStatus().getStatusCode().name())
+                .put("attributes", attributes);
+    }
+}
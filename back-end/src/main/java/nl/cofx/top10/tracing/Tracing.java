@@ -0,0 +1,104 @@
+package nl.cofx.top10.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.vertx.core.Future;
+import io.vertx.core.spi.VertxTracerFactory;
+import io.vertx.tracing.opentelemetry.OpenTelemetryTracingFactory;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+@UtilityClass
+public class Tracing {
+
+    public static final String DEFAULT_TRACE_FILE = "traces.jsonl";
+
+    private static final String INSTRUMENTATION_SCOPE = "nl.cofx.top10";
+    private static final String SERVICE_NAME = "top10";
+
+    private volatile OpenTelemetry openTelemetry = OpenTelemetry.noop();
+
+    public VertxTracerFactory tracerFactory(TracingExporter exporter, String destination, double samplingRatio) {
+        if (exporter == TracingExporter.NONE) {
+            return null;
+        }
+
+        var resource = Resource.getDefault().merge(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), SERVICE_NAME)));
+        var tracerProvider = SdkTracerProvider.builder()
+                .setResource(resource)
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(samplingRatio)))
+                .addSpanProcessor(BatchSpanProcessor.builder(spanExporter(exporter, destination)).build())
+                .build();
+        var sdk = OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        Runtime.getRuntime().addShutdownHook(new Thread(sdk::close));
+
+        log.info("Exporting {} of traces using exporter {}", samplingRatio, exporter);
+        openTelemetry = sdk;
+        return new OpenTelemetryTracingFactory(sdk);
+    }
+
+    private SpanExporter spanExporter(TracingExporter exporter, String destination) {
+        return switch (exporter) {
+            case FILE -> new FileSpanExporter(Path.of(destination == null ? DEFAULT_TRACE_FILE : destination));
+            case OTLP -> destination == null ? OtlpGrpcSpanExporter.getDefault() : OtlpGrpcSpanExporter.builder().setEndpoint(destination).build();
+            case NONE -> throw new IllegalStateException("No span exporter for tracing exporter NONE");
+        };
+    }
+
+    public Tracer tracer() {
+        return openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    public <T> Future<T> inSpan(String name, Function<Span, Future<T>> operation) {
+        var span = tracer().spanBuilder(name).startSpan();
+
+        Future<T> result;
+        try {
+            result = inScope(span, () -> operation.apply(span));
+        } catch (RuntimeException exception) {
+            end(span, exception);
+            throw exception;
+        }
+
+        return result.onComplete(asyncResult -> end(span, asyncResult.cause()));
+    }
+
+    public <T> Future<T> inScope(Span span, Supplier<Future<T>> operation) {
+        var scope = span.makeCurrent();
+        try {
+            return operation.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    private void end(Span span, Throwable cause) {
+        if (cause != null) {
+            span.setStatus(StatusCode.ERROR, cause.getMessage());
+            span.recordException(cause);
+        }
+
+        span.end();
+    }
+}
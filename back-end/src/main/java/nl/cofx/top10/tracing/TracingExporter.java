@@ -0,0 +1,7 @@
+package nl.cofx.top10.tracing;
+
+public enum TracingExporter {
+    NONE,
+    FILE,
+    OTLP
+}
@@ -0,0 +1,5 @@
+create index if not exists video_list_id_idx on video (list_id);
+create index if not exists list_quiz_id_idx on list (quiz_id);
+create index if not exists assignment_assignee_id_idx on assignment (assignee_id);
+create index if not exists google_account_google_account_id_idx on google_account (google_account_id);
+create index if not exists microsoft_account_microsoft_account_id_idx on microsoft_account (microsoft_account_id);
@@ -0,0 +1,5 @@
+create table quiz_result (
+  quiz_id uuid primary key references quiz (quiz_id),
+  result json not null,
+  created_at timestamptz not null default now()
+);
@@ -4,6 +4,7 @@ import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import nl.cofx.top10.config.TestConfig;
+import nl.cofx.top10.quiz.QuizShards;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,7 +25,9 @@ class ApplicationIntegrationTest {
 
     @Test
     public void starts(Vertx vertx, VertxTestContext vertxTestContext) {
-        vertxTestContext.verify(() -> assertThat(vertx.deploymentIDs()).hasSize(9));
+        var numberOfRouteVerticlesPerHttpServer = 5;
+        var expectedNumberOfDeployments = 5 + QuizShards.NUMBER_OF_SHARDS + numberOfRouteVerticlesPerHttpServer * config.getNumberOfHttpServerInstances();
+        vertxTestContext.verify(() -> assertThat(vertx.deploymentIDs()).hasSize(expectedNumberOfDeployments));
         vertxTestContext.completeNow();
     }
 }
@@ -0,0 +1,176 @@
+package nl.cofx.top10;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import nl.cofx.top10.cluster.ClusterManagers;
+import nl.cofx.top10.config.NodeRole;
+import nl.cofx.top10.config.TestConfig;
+import nl.cofx.top10.eventbus.HttpReply;
+import nl.cofx.top10.quiz.QuizShards;
+import nl.cofx.top10.quiz.dto.QuizDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static nl.cofx.top10.quiz.QuizEntityVerticle.CREATE_QUIZ_ADDRESS;
+import static nl.cofx.top10.quiz.QuizEntityVerticle.GET_ONE_QUIZ_ADDRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PostgresExtension.class)
+@ExtendWith(VertxExtension.class)
+class ClusteredApplicationIntegrationTest {
+
+    private static final String QUIZ_NAME = "Greatest Hits";
+    private static final Instant DEADLINE = Instant.now().plus(Period.ofDays(1)).truncatedTo(ChronoUnit.MILLIS);
+
+    private final String clusterName = "top10-" + UUID.randomUUID();
+    private final TestConfig entityNodeConfig = clusteredConfig(NodeRole.ENTITY);
+    private final TestConfig httpNodeConfig = clusteredConfig(NodeRole.HTTP);
+
+    private Vertx entityNode;
+    private Vertx httpNode;
+    private String accountId;
+
+    private TestConfig clusteredConfig(NodeRole nodeRole) {
+        return new TestConfig() {
+            @Override
+            public boolean isClustered() {
+                return true;
+            }
+
+            @Override
+            public Set<NodeRole> getNodeRoles() {
+                return EnumSet.of(nodeRole);
+            }
+
+            @Override
+            public ClusterManager getClusterManager() {
+                return ClusterManagers.embeddedHazelcast(clusterName);
+            }
+        };
+    }
+
+    @BeforeEach
+    public void setUp(VertxTestContext vertxTestContext) {
+        Application.createVertx(entityNodeConfig)
+                .compose(vertx -> {
+                    entityNode = vertx;
+                    return new Application(entityNodeConfig, vertx).start();
+                })
+                .compose(entityNodeStarted -> Application.createVertx(httpNodeConfig))
+                .compose(vertx -> {
+                    httpNode = vertx;
+                    return new Application(httpNodeConfig, vertx).start();
+                })
+                .onComplete(vertxTestContext.succeedingThenComplete());
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext vertxTestContext) {
+        Future.join(close(httpNode), close(entityNode)).onComplete(vertxTestContext.succeedingThenComplete());
+    }
+
+    private static Future<Void> close(Vertx vertx) {
+        return vertx == null ? Future.succeededFuture() : vertx.close();
+    }
+
+    private void createAccount() throws SQLException {
+        try (var connection = DriverManager.getConnection(entityNodeConfig.getJdbcUrl(), entityNodeConfig.getJdbcUsername(), entityNodeConfig.getJdbcPassword())) {
+            connection.prepareStatement("TRUNCATE TABLE account, quiz CASCADE").execute();
+            var statement = connection.prepareStatement("INSERT INTO account (name, email_address, first_login_at, last_login_at) VALUES ('John Doe', 'john.doe@example.com', NOW(), NOW()) RETURNING account_id");
+            var resultSet = statement.executeQuery();
+            resultSet.next();
+            accountId = resultSet.getString(1).replace("-", "");
+        }
+    }
+
+    private Future<String> createQuiz() {
+        var createRequest = new JsonObject()
+                .put("creatorId", accountId)
+                .put("name", QUIZ_NAME)
+                .put("deadline", DEADLINE);
+
+        return httpNode.eventBus().<String>request(CREATE_QUIZ_ADDRESS, createRequest).map(reply -> reply.body());
+    }
+
+    private JsonObject getOneQuizRequest(String quizId) {
+        return new JsonObject()
+                .put("quizId", quizId)
+                .put("accountId", accountId);
+    }
+
+    @Test
+    public void deploysVerticlesByNodeRole(VertxTestContext vertxTestContext) {
+        var numberOfRouteVerticlesPerHttpServer = 5;
+        vertxTestContext.verify(() -> {
+            assertThat(entityNode.isClustered()).isTrue();
+            assertThat(httpNode.isClustered()).isTrue();
+            assertThat(entityNode.deploymentIDs()).hasSize(4 + QuizShards.NUMBER_OF_SHARDS);
+            assertThat(httpNode.deploymentIDs()).hasSize(1 + numberOfRouteVerticlesPerHttpServer * httpNodeConfig.getNumberOfHttpServerInstances());
+        });
+        vertxTestContext.completeNow();
+    }
+
+    @Test
+    public void routesEntityRequestsToOtherNode(VertxTestContext vertxTestContext) throws SQLException {
+        createAccount();
+
+        createQuiz()
+                .compose(quizId -> httpNode.eventBus().<QuizDto>request(QuizShards.address(GET_ONE_QUIZ_ADDRESS, quizId), getOneQuizRequest(quizId))
+                        .map(reply -> {
+                            var quiz = reply.body();
+                            vertxTestContext.verify(() -> {
+                                assertThat(quiz.getId()).isNotNull();
+                                assertThat(quiz.getName()).isEqualTo(QUIZ_NAME);
+                                assertThat(quiz.getCreatorId()).isEqualTo(accountId);
+                                assertThat(quiz.isCreator()).isTrue();
+                                assertThat(quiz.isActive()).isTrue();
+                                assertThat(quiz.getDeadline()).isEqualTo(DEADLINE);
+                            });
+                            return quiz;
+                        }))
+                .onComplete(vertxTestContext.succeedingThenComplete());
+    }
+
+    @Test
+    public void routesHttpBodyRequestsToOtherNode(VertxTestContext vertxTestContext) throws SQLException {
+        createAccount();
+
+        createQuiz()
+                .compose(quizId -> httpNode.eventBus().<Buffer>request(QuizShards.address(GET_ONE_QUIZ_ADDRESS, quizId), getOneQuizRequest(quizId), HttpReply.requestHttpBody())
+                        .map(reply -> {
+                            vertxTestContext.verify(() -> {
+                                assertThat(reply.headers().get(HttpReply.STATUS_CODE_HEADER)).isEqualTo("200");
+                                var quiz = reply.body().toJsonObject();
+                                assertThat(quiz.getString("id")).isNotNull();
+                                assertThat(quiz.getString("name")).isEqualTo(QUIZ_NAME);
+                            });
+                            return reply;
+                        }))
+                .onComplete(vertxTestContext.succeedingThenComplete());
+    }
+
+    @Test
+    public void failsRequestsForUnknownQuizzesAcrossNodes(VertxTestContext vertxTestContext) throws SQLException {
+        createAccount();
+
+        var quizId = UUID.randomUUID().toString();
+        httpNode.eventBus().request(QuizShards.address(GET_ONE_QUIZ_ADDRESS, quizId), getOneQuizRequest(quizId))
+                .onComplete(vertxTestContext.failingThenComplete());
+    }
+}
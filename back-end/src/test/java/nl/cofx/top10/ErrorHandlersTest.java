@@ -80,6 +80,23 @@ class ErrorHandlersTest {
         assertThat(response.body().getString("error")).isEqualTo("Self-thrown internal server error");
     }
 
+    @Test
+    public void handlesServiceUnavailableException() throws IOException, InterruptedException {
+        router.route(HttpMethod.GET, "/serviceUnavailable").handler(ar -> {
+            throw new ServiceUnavailableException("Service unavailable");
+        });
+
+        var httpClient = HttpClient.newHttpClient();
+        var request = HttpRequest.newBuilder()
+                .GET()
+                .uri(URI.create("http://localhost:" + port + "/serviceUnavailable"))
+                .build();
+        var response = httpClient.send(request, new JsonObjectBodyHandler());
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        assertThat(response.body().getString("error")).isEqualTo("Service unavailable");
+    }
+
     @Test
     public void handlesInvalidCredentials() throws IOException, InterruptedException {
         router.route(HttpMethod.GET, "/invalidCredentials").handler(ar -> {
@@ -0,0 +1,84 @@
+package nl.cofx.top10;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.seed.SeedShape;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class QueryPlans {
+
+    public static final SeedShape SEED_SHAPE = SeedShape.builder()
+            .numberOfAccounts(10_000)
+            .numberOfQuizzes(1_000)
+            .participantsPerQuiz(20)
+            .videosPerList(5)
+            .assignmentFraction(0.1)
+            .build();
+
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\$(\\d+)");
+
+    public static void clear(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE account, quiz CASCADE");
+        }
+    }
+
+    public static Set<String> sequentiallyScannedRelations(Connection connection, String template, Object... parameters) throws SQLException {
+        var query = "EXPLAIN (FORMAT JSON) " + bind(template, parameters);
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            var plan = new JsonArray(resultSet.getString(1)).getJsonObject(0).getJsonObject("Plan");
+            log.debug("Query \"{}\" has plan \"{}\"", template, plan);
+
+            var relations = new TreeSet<String>();
+            collectSequentiallyScannedRelations(plan, relations);
+            return relations;
+        }
+    }
+
+    private static String bind(String template, Object... parameters) {
+        return PARAMETER_PATTERN.matcher(template).replaceAll(match -> {
+            var parameter = parameters[Integer.parseInt(match.group(1)) - 1];
+            return Matcher.quoteReplacement(toLiteral(parameter));
+        });
+    }
+
+    private static String toLiteral(Object parameter) {
+        if (parameter instanceof List<?> elements) {
+            return quote(elements.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",", "{", "}")));
+        }
+
+        return quote(String.valueOf(parameter));
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    private static void collectSequentiallyScannedRelations(JsonObject plan, Set<String> relations) {
+        if ("Seq Scan".equals(plan.getString("Node Type"))) {
+            relations.add(plan.getString("Relation Name"));
+        }
+
+        var subPlans = plan.getJsonArray("Plans");
+        if (subPlans == null) {
+            return;
+        }
+
+        for (var i = 0; i < subPlans.size(); ++i) {
+            collectSequentiallyScannedRelations(subPlans.getJsonObject(i), relations);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package nl.cofx.top10.account;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import nl.cofx.top10.PostgresExtension;
+import nl.cofx.top10.QueryPlans;
+import nl.cofx.top10.config.TestConfig;
+import nl.cofx.top10.migration.MigrationVerticle;
+import nl.cofx.top10.seed.Seeder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static nl.cofx.top10.account.ExternalAccountVerticle.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PostgresExtension.class)
+@ExtendWith(VertxExtension.class)
+class ExternalAccountQueryPlanTest {
+
+    private static final TestConfig TEST_CONFIG = new TestConfig();
+
+    private static String accountId;
+
+    @BeforeAll
+    public static void seed(Vertx vertx) throws Exception {
+        var verticle = new MigrationVerticle(TEST_CONFIG.getJdbcUrl(), TEST_CONFIG.getJdbcUsername(), TEST_CONFIG.getJdbcPassword());
+        var deploymentOptions = new DeploymentOptions().setThreadingModel(ThreadingModel.WORKER);
+        vertx.deployVerticle(verticle, deploymentOptions).toCompletionStage().toCompletableFuture().get();
+
+        try (var connection = getConnection(); var statement = connection.createStatement()) {
+            QueryPlans.clear(connection);
+            new Seeder(QueryPlans.SEED_SHAPE).seed(connection);
+
+            var accounts = statement.executeQuery("SELECT account_id FROM account LIMIT 1");
+            accounts.next();
+            accountId = accounts.getString("account_id");
+        }
+    }
+
+    @AfterAll
+    public static void clear() throws SQLException {
+        try (var connection = getConnection()) {
+            QueryPlans.clear(connection);
+        }
+    }
+
+    private static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(TEST_CONFIG.getJdbcUrl(), TEST_CONFIG.getJdbcUsername(), TEST_CONFIG.getJdbcPassword());
+    }
+
+    private void assertNoSequentialScans(String template, Object... parameters) throws SQLException {
+        try (var connection = getConnection()) {
+            assertThat(QueryPlans.sequentiallyScannedRelations(connection, template, parameters))
+                    .as("Relations scanned sequentially by query \"%s\"", template)
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    public void retrievesAccountByGoogleIdWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ACCOUNT_BY_GOOGLE_ID_TEMPLATE, "google1");
+    }
+
+    @Test
+    public void retrievesAccountByMicrosoftIdWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ACCOUNT_BY_MICROSOFT_ID_TEMPLATE, "microsoft1");
+    }
+
+    @Test
+    public void updatesStatisticsWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(UPDATE_STATISTICS_TEMPLATE, accountId);
+    }
+
+    @Test
+    public void createsAccountWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(CREATE_ACCOUNT_TEMPLATE, "John Doe", "john.doe@example.com");
+    }
+
+    @Test
+    public void linksGoogleAccountWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(CREATE_GOOGLE_ACCOUNT_TEMPLATE, accountId, "google");
+    }
+
+    @Test
+    public void linksMicrosoftAccountWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(CREATE_MICROSOFT_ACCOUNT_TEMPLATE, accountId, "microsoft");
+    }
+}
@@ -42,6 +42,21 @@ public class TestConfig extends AbstractConfig implements Config {
         return false;
     }
 
+    @Override
+    public int getNumberOfHttpServerInstances() {
+        return 2;
+    }
+
+    @Override
+    public int getNumberOfEntityVerticleInstances() {
+        return 2;
+    }
+
+    @Override
+    public int getMetricsPort() {
+        return 0;
+    }
+
     protected JsonObject fetchJdbcOptions() {
         return new JsonObject()
                 .put("url", getJdbcUrl())
@@ -0,0 +1,111 @@
+package nl.cofx.top10.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import nl.cofx.top10.metrics.Meters;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final String name = "test." + UUID.randomUUID();
+    private final SingleFlight<String> singleFlight = new SingleFlight<>(name);
+    private final AtomicInteger numberOfExecutions = new AtomicInteger();
+
+    @BeforeEach
+    void addRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    private Future<String> execute(Promise<String> promise) {
+        numberOfExecutions.incrementAndGet();
+        return promise.future();
+    }
+
+    @Test
+    void sharesExecutionBetweenConcurrentCallsWithSameKey() {
+        Promise<String> promise = Promise.promise();
+
+        var first = singleFlight.execute("key", () -> execute(promise));
+        var second = singleFlight.execute("key", () -> execute(promise));
+        promise.complete("result");
+
+        assertThat(numberOfExecutions).hasValue(1);
+        assertThat(first.result()).isEqualTo("result");
+        assertThat(second.result()).isEqualTo("result");
+        assertThat(singleFlight.getNumberInFlight()).isZero();
+        assertThat(count(SingleFlight.EXECUTED)).isEqualTo(1);
+        assertThat(count(SingleFlight.COALESCED)).isEqualTo(1);
+    }
+
+    @Test
+    void executesAgainAfterCompletion() {
+        singleFlight.execute("key", () -> Future.succeededFuture("first"));
+        var second = singleFlight.execute("key", () -> Future.succeededFuture("second"));
+
+        assertThat(second.result()).isEqualTo("second");
+        assertThat(count(SingleFlight.EXECUTED)).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotShareExecutionBetweenDifferentKeys() {
+        Promise<String> promise = Promise.promise();
+
+        singleFlight.execute("key", () -> execute(promise));
+        singleFlight.execute("otherKey", () -> execute(promise));
+
+        assertThat(numberOfExecutions).hasValue(2);
+    }
+
+    @Test
+    void sharesFailures() {
+        Promise<String> promise = Promise.promise();
+
+        var first = singleFlight.execute("key", () -> execute(promise));
+        var second = singleFlight.execute("key", () -> execute(promise));
+        promise.fail("failure");
+
+        assertThat(first.failed()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(singleFlight.getNumberInFlight()).isZero();
+    }
+
+    @Test
+    void handlesOnlyResultsOfExecutionsThatWereNotForgotten() {
+        Promise<String> forgottenPromise = Promise.promise();
+        Promise<String> currentPromise = Promise.promise();
+        var handledResults = new StringBuilder();
+
+        singleFlight.execute("key", () -> execute(forgottenPromise), handledResults::append);
+        singleFlight.forget("key");
+        singleFlight.execute("key", () -> execute(currentPromise), handledResults::append);
+        forgottenPromise.complete("forgotten");
+        currentPromise.complete("current");
+
+        assertThat(numberOfExecutions).hasValue(2);
+        assertThat(handledResults).hasToString("current");
+    }
+
+    private double count(String outcome) {
+        return registry.get(SingleFlight.CALL_COUNTER)
+                .tag(SingleFlight.NAME_TAG, name)
+                .tag(Meters.OUTCOME_TAG, outcome)
+                .counter()
+                .count();
+    }
+}
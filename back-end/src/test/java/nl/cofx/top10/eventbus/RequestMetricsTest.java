@@ -0,0 +1,63 @@
+package nl.cofx.top10.eventbus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import nl.cofx.top10.metrics.Meters;
+
+class RequestMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final String address = "test." + UUID.randomUUID();
+
+    @BeforeEach
+    void addRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void timesSuccessfulRequests() {
+        RequestMetrics.<String>timed(address, Future.<Message<String>>succeededFuture());
+
+        assertThat(count(Meters.SUCCESS)).isEqualTo(1);
+    }
+
+    @Test
+    void tagsRecipientFailuresWithFailureCode() {
+        RequestMetrics.<String>timed(address, Future.<Message<String>>failedFuture(new ReplyException(ReplyFailure.RECIPIENT_FAILURE, 404, "Not found")));
+
+        assertThat(count("404")).isEqualTo(1);
+    }
+
+    @Test
+    void tagsOtherFailuresWithFailureType() {
+        RequestMetrics.<String>timed(address, reply -> {}).handle(Future.failedFuture(new ReplyException(ReplyFailure.TIMEOUT, "Timed out")));
+
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    private long count(String outcome) {
+        var timer = registry.find(RequestMetrics.REQUEST_TIMER)
+                .tag(RequestMetrics.ADDRESS_TAG, address)
+                .tag(Meters.OUTCOME_TAG, outcome)
+                .timer();
+
+        return timer == null ? 0 : timer.count();
+    }
+}
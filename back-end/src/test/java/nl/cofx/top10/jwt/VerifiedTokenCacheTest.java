@@ -0,0 +1,124 @@
+package nl.cofx.top10.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String ENCODED_SECRET_KEY = "FsJtRGG84NM7BNewGo5AXvg6GJ1DKedDJjkirpDEAOtVgdi6j3f+THdeEika6v3dB8N4DO0fywkd+JK2A5eKLQ==";
+    private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ENCODED_SECRET_KEY));
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final String name = "test." + UUID.randomUUID();
+
+    @BeforeEach
+    void addRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void returnsCachedJwsForRepeatedToken() {
+        var verifiedTokenCache = new VerifiedTokenCache();
+        var jwt = new Jwt(SECRET_KEY, verifiedTokenCache);
+        var token = Jwts.builder()
+                .subject("test")
+                .signWith(SECRET_KEY, Jwts.SIG.HS512)
+                .compact();
+
+        var firstJws = jwt.getJws(token);
+        var secondJws = jwt.getJws(token);
+
+        assertThat(secondJws).isSameAs(firstJws);
+        assertThat(verifiedTokenCache.getMissCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void doesNotCacheInvalidToken() {
+        var verifiedTokenCache = new VerifiedTokenCache();
+        var jwt = new Jwt(SECRET_KEY, verifiedTokenCache);
+
+        assertThat(jwt.getJws("invalid")).isNull();
+        assertThat(jwt.getJws("invalid")).isNull();
+        assertThat(verifiedTokenCache.getHitCount()).isZero();
+    }
+
+    @Test
+    public void doesNotReturnExpiredToken() {
+        var now = Instant.now();
+        var token = Jwts.builder()
+                .subject("test")
+                .expiration(Date.from(now.plus(1, ChronoUnit.MINUTES)))
+                .signWith(SECRET_KEY, Jwts.SIG.HS512)
+                .compact();
+        var jws = new Jwt(SECRET_KEY).getJws(token);
+
+        var verifiedTokenCache = new VerifiedTokenCache(name, 10, Clock.fixed(now.plus(2, ChronoUnit.MINUTES), ZoneOffset.UTC));
+        verifiedTokenCache.put(token, jws);
+
+        assertThat(verifiedTokenCache.get(token)).isNull();
+        assertThat(verifiedTokenCache.get(token)).isNull();
+        assertThat(verifiedTokenCache.getHitCount()).isZero();
+        assertThat(verifiedTokenCache.getMissCount()).isEqualTo(2);
+        assertThat(verifiedTokenCache.getHitRate()).isZero();
+        assertThat(verifiedTokenCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void exportsStatisticsAsMeters() {
+        var verifiedTokenCache = new VerifiedTokenCache(name, 1, Clock.systemUTC());
+        var jwt = new Jwt(SECRET_KEY, verifiedTokenCache);
+        var firstToken = Jwts.builder().subject("first").signWith(SECRET_KEY, Jwts.SIG.HS512).compact();
+        var secondToken = Jwts.builder().subject("second").signWith(SECRET_KEY, Jwts.SIG.HS512).compact();
+
+        jwt.getJws(firstToken);
+        jwt.getJws(firstToken);
+        jwt.getJws(firstToken);
+        jwt.getJws(secondToken);
+
+        assertThat(getCount(VerifiedTokenCache.HIT)).isEqualTo(2);
+        assertThat(getCount(VerifiedTokenCache.MISS)).isEqualTo(2);
+        assertThat(registry.get(VerifiedTokenCache.HIT_RATE_GAUGE).tag(VerifiedTokenCache.CACHE_TAG, name).gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get(VerifiedTokenCache.EVICTION_COUNTER).tag(VerifiedTokenCache.CACHE_TAG, name).functionCounter().count()).isEqualTo(verifiedTokenCache.getEvictionCount());
+    }
+
+    @Test
+    public void limitsNumberOfCachedTokens() {
+        var verifiedTokenCache = new VerifiedTokenCache(name, 1, Clock.systemUTC());
+        var jwt = new Jwt(SECRET_KEY, verifiedTokenCache);
+
+        jwt.getJws(Jwts.builder().subject("first").signWith(SECRET_KEY, Jwts.SIG.HS512).compact());
+        jwt.getJws(Jwts.builder().subject("second").signWith(SECRET_KEY, Jwts.SIG.HS512).compact());
+
+        assertThat(verifiedTokenCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    private double getCount(String result) {
+        return registry.get(VerifiedTokenCache.GET_COUNTER)
+                .tag(VerifiedTokenCache.CACHE_TAG, name)
+                .tag(VerifiedTokenCache.RESULT_TAG, result)
+                .functionCounter()
+                .count();
+    }
+}
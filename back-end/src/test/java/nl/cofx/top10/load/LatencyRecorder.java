@@ -0,0 +1,83 @@
+package nl.cofx.top10.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder droppedArrivals = new LongAdder();
+
+    public void record(String route, long latencyInNanos, boolean succeeded) {
+        latencies.computeIfAbsent(route, key -> new ConcurrentLinkedQueue<>()).add(latencyInNanos);
+        if (!succeeded) {
+            failures.computeIfAbsent(route, key -> new LongAdder()).increment();
+        }
+    }
+
+    public void recordDroppedArrival() {
+        droppedArrivals.increment();
+    }
+
+    public long getNumberOfRequests() {
+        return latencies.values().stream().mapToLong(ConcurrentLinkedQueue::size).sum();
+    }
+
+    public long getNumberOfFailures() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getNumberOfDroppedArrivals() {
+        return droppedArrivals.sum();
+    }
+
+    public String report() {
+        var report = new StringBuilder(String.format("%-40s %8s %8s", "Route", "Count", "Failed"));
+        for (var percentile : PERCENTILES) {
+            report.append(String.format(" %9s", label(percentile)));
+        }
+        report.append(String.format(" %9s%n", "max ms"));
+
+        new TreeMap<>(latencies).forEach((route, routeLatencies) -> {
+            List<Long> sortedLatencies = new ArrayList<>(routeLatencies);
+            Collections.sort(sortedLatencies);
+
+            var routeFailures = failures.get(route);
+            report.append(String.format("%-40s %8d %8d", route, sortedLatencies.size(), routeFailures == null ? 0 : routeFailures.sum()));
+            for (var percentile : PERCENTILES) {
+                report.append(String.format(" %9.2f", toMillis(percentile(sortedLatencies, percentile))));
+            }
+            report.append(String.format(" %9.2f%n", toMillis(sortedLatencies.get(sortedLatencies.size() - 1))));
+        });
+
+        report.append(String.format("Dropped arrivals: %d%n", droppedArrivals.sum()));
+        return report.toString();
+    }
+
+    private static String label(double percentile) {
+        if (percentile == Math.rint(percentile)) {
+            return String.format("p%d ms", (long) percentile);
+        }
+
+        return String.format("p%s ms", percentile);
+    }
+
+    static long percentile(List<Long> sortedLatencies, double percentile) {
+        var index = (int) Math.ceil(percentile / 100 * sortedLatencies.size()) - 1;
+        return sortedLatencies.get(Math.max(0, Math.min(index, sortedLatencies.size() - 1)));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
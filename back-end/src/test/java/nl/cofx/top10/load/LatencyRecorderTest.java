@@ -0,0 +1,34 @@
+package nl.cofx.top10.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest {
+
+    @Test
+    void computesPercentiles() {
+        var sortedLatencies = LongStream.rangeClosed(1, 1_000).boxed().toList();
+
+        assertThat(LatencyRecorder.percentile(sortedLatencies, 50)).isEqualTo(500);
+        assertThat(LatencyRecorder.percentile(sortedLatencies, 99)).isEqualTo(990);
+        assertThat(LatencyRecorder.percentile(sortedLatencies, 99.9)).isEqualTo(999);
+        assertThat(LatencyRecorder.percentile(List.of(42L), 99)).isEqualTo(42);
+    }
+
+    @Test
+    void countsRequestsAndFailuresPerRoute() {
+        var latencyRecorder = new LatencyRecorder();
+
+        latencyRecorder.record("GET /private/quiz", 1_000_000, true);
+        latencyRecorder.record("GET /private/quiz", 2_000_000, false);
+        latencyRecorder.record("POST /private/quiz", 3_000_000, true);
+
+        assertThat(latencyRecorder.getNumberOfRequests()).isEqualTo(3);
+        assertThat(latencyRecorder.getNumberOfFailures()).isEqualTo(1);
+        assertThat(latencyRecorder.report()).contains("GET /private/quiz", "POST /private/quiz");
+    }
+}
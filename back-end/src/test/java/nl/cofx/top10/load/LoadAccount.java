@@ -0,0 +1,10 @@
+package nl.cofx.top10.load;
+
+import lombok.Value;
+
+@Value
+public class LoadAccount {
+
+    String id;
+    String token;
+}
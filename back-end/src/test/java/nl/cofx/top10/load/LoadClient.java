@@ -0,0 +1,61 @@
+package nl.cofx.top10.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+import io.vertx.core.json.JsonObject;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LoadClient {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String origin;
+    private final LatencyRecorder latencyRecorder;
+
+    public CompletableFuture<String> get(String route, String path, String token) {
+        return send(route, "GET", path, token, null);
+    }
+
+    public CompletableFuture<String> post(String route, String path, String token, JsonObject body) {
+        return send(route, "POST", path, token, body);
+    }
+
+    public CompletableFuture<String> put(String route, String path, String token, JsonObject body) {
+        return send(route, "PUT", path, token, body);
+    }
+
+    public void recordDroppedArrival() {
+        latencyRecorder.recordDroppedArrival();
+    }
+
+    private CompletableFuture<String> send(String route, String method, String path, String token, JsonObject body) {
+        var request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Origin", origin)
+                .header("content-type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body.encode()))
+                .build();
+
+        var routeName = method + " " + route;
+        var start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, cause) -> latencyRecorder.record(routeName, System.nanoTime() - start, cause == null && isSuccessful(response)))
+                .thenApply(response -> {
+                    if (!isSuccessful(response)) {
+                        throw new IllegalStateException(String.format("Request \"%s %s\" failed with status %d: %s", method, path, response.statusCode(), response.body()));
+                    }
+
+                    return response.body();
+                });
+    }
+
+    private static boolean isSuccessful(HttpResponse<String> response) {
+        return response.statusCode() >= 200 && response.statusCode() < 300;
+    }
+}
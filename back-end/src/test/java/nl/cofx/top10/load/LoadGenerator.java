@@ -0,0 +1,70 @@
+package nl.cofx.top10.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoadGenerator {
+
+    private final LoadClient client;
+    private final LoadSettings settings;
+    private final List<LoadAccount> accounts;
+
+    public void run() throws InterruptedException {
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        var inFlight = new Semaphore(settings.getConcurrency());
+        var end = System.nanoTime() + settings.getDuration().toNanos();
+
+        log.info("Starting {} quizzes per second for {} with at most {} quizzes in flight", settings.getArrivalRatePerSecond(), settings.getDuration(), settings.getConcurrency());
+        scheduleArrival(scheduler, inFlight, end);
+
+        scheduler.awaitTermination(settings.getDuration().toSeconds() + 1, TimeUnit.SECONDS);
+        if (!inFlight.tryAcquire(settings.getConcurrency(), settings.getTimeUntilDeadline().toSeconds() + 60, TimeUnit.SECONDS)) {
+            log.warn("{} quizzes did not complete in time", settings.getConcurrency() - inFlight.availablePermits());
+        }
+    }
+
+    private void scheduleArrival(ScheduledExecutorService scheduler, Semaphore inFlight, long end) {
+        var interArrivalTimeInNanos = (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) / settings.getArrivalRatePerSecond() * TimeUnit.SECONDS.toNanos(1));
+        if (System.nanoTime() + interArrivalTimeInNanos > end) {
+            scheduler.shutdown();
+            return;
+        }
+
+        scheduler.schedule(() -> {
+            arrive(inFlight);
+            scheduleArrival(scheduler, inFlight, end);
+        }, interArrivalTimeInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void arrive(Semaphore inFlight) {
+        if (!inFlight.tryAcquire()) {
+            client.recordDroppedArrival();
+            return;
+        }
+
+        var shuffledAccounts = new ArrayList<>(accounts);
+        Collections.shuffle(shuffledAccounts, ThreadLocalRandom.current());
+        var creator = shuffledAccounts.get(0);
+        var participants = shuffledAccounts.subList(1, settings.getParticipantsPerQuiz() + 1);
+
+        new QuizScenario(client, settings, creator, List.copyOf(participants)).run()
+                .whenComplete((nothing, cause) -> {
+                    if (cause != null) {
+                        log.warn("Quiz scenario failed", cause);
+                    }
+
+                    inFlight.release();
+                });
+    }
+}
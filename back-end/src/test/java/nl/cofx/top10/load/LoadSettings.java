@@ -0,0 +1,33 @@
+package nl.cofx.top10.load;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class LoadSettings {
+
+    double arrivalRatePerSecond;
+    int concurrency;
+    Duration duration;
+    Duration timeUntilDeadline;
+    int participantsPerQuiz;
+    int videosPerList;
+
+    public static LoadSettings fromSystemProperties() {
+        return LoadSettings.builder()
+                .arrivalRatePerSecond(Double.parseDouble(System.getProperty("load.arrivalRatePerSecond", "2")))
+                .concurrency(Integer.getInteger("load.concurrency", 20))
+                .duration(Duration.ofSeconds(Integer.getInteger("load.durationInSeconds", 60)))
+                .timeUntilDeadline(Duration.ofSeconds(Integer.getInteger("load.timeUntilDeadlineInSeconds", 10)))
+                .participantsPerQuiz(Integer.getInteger("load.participantsPerQuiz", 10))
+                .videosPerList(Integer.getInteger("load.videosPerList", 10))
+                .build();
+    }
+
+    public int getNumberOfAccounts() {
+        return (participantsPerQuiz + 1) * concurrency;
+    }
+}
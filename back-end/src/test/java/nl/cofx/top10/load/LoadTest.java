@@ -0,0 +1,85 @@
+package nl.cofx.top10.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpClient;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.jsonwebtoken.Jwts;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import lombok.extern.slf4j.Slf4j;
+import nl.cofx.top10.Application;
+import nl.cofx.top10.PostgresExtension;
+import nl.cofx.top10.config.TestConfig;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "load", matches = "true")
+@ExtendWith(PostgresExtension.class)
+@ExtendWith(VertxExtension.class)
+class LoadTest {
+
+    private static final String CREATE_ACCOUNTS_TEMPLATE = "INSERT INTO account (name, email_address, first_login_at, last_login_at) "
+                                                           + "SELECT 'Load ' || a, 'load' || a || '@example.org', NOW(), NOW() FROM generate_series(1, ?) a "
+                                                           + "RETURNING replace(account_id::text, '-', ''), name, email_address";
+
+    private final TestConfig config = new TestConfig();
+    private final LoadSettings settings = LoadSettings.fromSystemProperties();
+
+    @BeforeEach
+    public void setUp(Vertx vertx, VertxTestContext vertxTestContext) {
+        var application = new Application(config, vertx);
+        application.start().onComplete(vertxTestContext.succeedingThenComplete());
+    }
+
+    @Test
+    public void generatesLoad() throws SQLException, InterruptedException {
+        var latencyRecorder = new LatencyRecorder();
+        var httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        var client = new LoadClient(httpClient, "http://localhost:" + config.getHttpPort(), config.getCsrfTarget(), latencyRecorder);
+
+        new LoadGenerator(client, settings, createAccounts()).run();
+
+        log.info("Load test results for {}\n{}", settings, latencyRecorder.report());
+        assertThat(latencyRecorder.getNumberOfRequests()).isPositive();
+    }
+
+    private List<LoadAccount> createAccounts() throws SQLException {
+        var accounts = new ArrayList<LoadAccount>(settings.getNumberOfAccounts());
+        try (var connection = DriverManager.getConnection(config.getJdbcUrl(), config.getJdbcUsername(), config.getJdbcPassword());
+             var statement = connection.prepareStatement(CREATE_ACCOUNTS_TEMPLATE)) {
+            statement.setInt(1, settings.getNumberOfAccounts());
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    var accountId = resultSet.getString(1);
+                    accounts.add(new LoadAccount(accountId, mintToken(accountId, resultSet.getString(2), resultSet.getString(3))));
+                }
+            }
+        }
+
+        return accounts;
+    }
+
+    private String mintToken(String accountId, String name, String emailAddress) {
+        return Jwts.builder()
+                .expiration(Date.from(Instant.now().plus(settings.getDuration()).plusSeconds(3600)))
+                .subject(accountId)
+                .claim("name", name)
+                .claim("emailAddress", emailAddress)
+                .signWith(config.getJwtSecretKey(), Jwts.SIG.HS512)
+                .compact();
+    }
+}
@@ -0,0 +1,98 @@
+package nl.cofx.top10.load;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.RandomStringUtils;
+
+@RequiredArgsConstructor
+public class QuizScenario {
+
+    private final LoadClient client;
+    private final LoadSettings settings;
+    private final LoadAccount creator;
+    private final List<LoadAccount> participants;
+
+    public CompletableFuture<Void> run() {
+        var deadline = Instant.now().plus(settings.getTimeUntilDeadline());
+        var quiz = new JsonObject()
+                .put("name", "Load test quiz " + RandomStringUtils.insecure().nextAlphanumeric(8))
+                .put("deadline", deadline);
+
+        return client.post("/private/quiz", "/private/quiz", creator.getToken(), quiz)
+                .thenApply(body -> new JsonObject(body).getString("id"))
+                .thenCompose(quizId -> forAll(participants, participant -> prepareList(quizId, participant))
+                        .thenCompose(nothing -> untilDeadline(deadline))
+                        .thenCompose(nothing -> forAll(participants, participant -> assignLists(quizId, participant)))
+                        .thenCompose(nothing -> client.put("/private/quiz/:quizId/complete", "/private/quiz/" + quizId + "/complete", creator.getToken(), null))
+                        .thenCompose(nothing -> forAll(participants, participant -> getResult(quizId, participant))));
+    }
+
+    private CompletableFuture<Void> prepareList(String quizId, LoadAccount participant) {
+        var token = participant.getToken();
+        return client.get("/public/quiz/:quizId", "/public/quiz/" + quizId, token)
+                .thenCompose(nothing -> client.post("/private/quiz/:quizId/participate", "/private/quiz/" + quizId + "/participate", token, null))
+                .thenApply(body -> new JsonObject(body).getString("personalListId"))
+                .thenCompose(listId -> addVideos(listId, token, settings.getVideosPerList())
+                        .thenCompose(nothing -> client.get("/private/list/:listId", "/private/list/" + listId, token))
+                        .thenCompose(nothing -> client.put("/private/list/:listId/finalize", "/private/list/" + listId + "/finalize", token, null)))
+                .thenApply(nothing -> null);
+    }
+
+    private CompletableFuture<Void> addVideos(String listId, String token, int numberOfVideos) {
+        if (numberOfVideos == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var video = new JsonObject().put("url", "https://www.youtube.com/watch?v=" + RandomStringUtils.insecure().nextAlphanumeric(11));
+        return client.post("/private/list/:listId/video", "/private/list/" + listId + "/video", token, video)
+                .thenCompose(nothing -> addVideos(listId, token, numberOfVideos - 1));
+    }
+
+    private CompletableFuture<Void> untilDeadline(Instant deadline) {
+        var remainingMillis = Math.max(0, deadline.toEpochMilli() - System.currentTimeMillis()) + 100;
+        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(remainingMillis, TimeUnit.MILLISECONDS));
+    }
+
+    private CompletableFuture<Void> assignLists(String quizId, LoadAccount participant) {
+        var token = participant.getToken();
+        return client.get("/private/quiz/:quizId/list", "/private/quiz/" + quizId + "/list", token)
+                .thenCompose(body -> {
+                    var lists = new JsonArray(body);
+                    var assignments = CompletableFuture.<Void>completedFuture(null);
+                    for (var i = 0; i < lists.size(); ++i) {
+                        var list = lists.getJsonObject(i);
+                        if (list.getBoolean("isOwnList", false)) {
+                            continue;
+                        }
+
+                        var listId = list.getString("id");
+                        var assignee = participants.get(ThreadLocalRandom.current().nextInt(participants.size()));
+                        assignments = assignments
+                                .thenCompose(nothing -> client.get("/private/list/:listId", "/private/list/" + listId, token))
+                                .thenCompose(nothing -> client.put("/private/list/:listId/assign", "/private/list/" + listId + "/assign", token, new JsonObject().put("assigneeId", assignee.getId())))
+                                .thenApply(nothing -> null);
+                    }
+
+                    return assignments;
+                });
+    }
+
+    private CompletableFuture<Void> getResult(String quizId, LoadAccount participant) {
+        return client.get("/private/quiz/:quizId/result", "/private/quiz/" + quizId + "/result", participant.getToken())
+                .thenApply(nothing -> null);
+    }
+
+    private static <T> CompletableFuture<Void> forAll(List<T> elements, Function<T, CompletableFuture<Void>> action) {
+        return CompletableFuture.allOf(elements.stream()
+                .map(action)
+                .toArray(CompletableFuture<?>[]::new));
+    }
+}
@@ -0,0 +1,27 @@
+package nl.cofx.top10.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.sqlclient.Tuple;
+
+class SlowStatementLogTest {
+
+    @Test
+    void redactsUuidsToPrefixes() {
+        var uuid = UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+        var parameters = Tuple.of(uuid, "0f8fad5bd9cb469fa16570867728950e", new UUID[] { uuid }, "Quiz", 10);
+
+        assertThat(SlowStatementLog.redact(parameters)).containsExactly("0f8fad5b...", "0f8fad5b...", List.of("0f8fad5b..."), "Quiz", 10);
+    }
+
+    @Test
+    void onlyExplainsQueries() {
+        assertThat(SlowStatementLog.isQuery(" select * from quiz where quiz_id = $1")).isTrue();
+        assertThat(SlowStatementLog.isQuery("UPDATE quiz SET is_active = false WHERE quiz_id = $1")).isFalse();
+    }
+}
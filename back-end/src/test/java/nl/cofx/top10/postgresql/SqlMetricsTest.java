@@ -0,0 +1,79 @@
+package nl.cofx.top10.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import nl.cofx.top10.PostgresExtension;
+import nl.cofx.top10.config.TestConfig;
+import nl.cofx.top10.metrics.Meters;
+
+@ExtendWith(PostgresExtension.class)
+@ExtendWith(VertxExtension.class)
+class SqlMetricsTest {
+
+    private static final TestConfig TEST_CONFIG = new TestConfig();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void addRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void timesQueriesByName() {
+        var name = "test." + UUID.randomUUID();
+
+        SqlMetrics.timeQuery(name, Future.succeededFuture());
+        SqlMetrics.timeQuery(name, Future.failedFuture("Syntax error"));
+
+        assertThat(registry.get(SqlMetrics.QUERY_TIMER).tag(SqlMetrics.QUERY_TAG, name).tag(Meters.OUTCOME_TAG, Meters.SUCCESS).timer().count()).isEqualTo(1);
+        assertThat(registry.get(SqlMetrics.QUERY_TIMER).tag(SqlMetrics.QUERY_TAG, name).tag(Meters.OUTCOME_TAG, SqlMetrics.FAILURE).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tracksConnectionsInUse() {
+        var connectionsInUse = SqlMetrics.getConnectionsInUse();
+
+        SqlMetrics.timeConnectionAcquisition(Future.succeededFuture());
+        assertThat(SqlMetrics.getConnectionsInUse()).isEqualTo(connectionsInUse + 1);
+
+        SqlMetrics.releaseConnection();
+        assertThat(SqlMetrics.getConnectionsInUse()).isEqualTo(connectionsInUse);
+    }
+
+    @Test
+    void countsTimeoutsOfConnectionAcquisitionFromExhaustedPool(Vertx vertx, VertxTestContext vertxTestContext) {
+        var counter = registry.counter(SqlMetrics.CONNECTION_TIMEOUT_COUNTER);
+        var timeouts = counter.count();
+        var jdbcOptions = TEST_CONFIG.getJdbcOptions().copy()
+                .put("max_pool_size", 1)
+                .put("connection_timeout_in_millis", 100);
+        var pool = PostgreSql.pool(vertx, jdbcOptions);
+
+        pool.getConnection()
+                .compose(connection -> SqlMetrics.timeConnectionAcquisition(pool.getConnection())
+                        .eventually(connection::close))
+                .onComplete(vertxTestContext.failing(cause -> vertxTestContext.verify(() -> {
+                    assertThat(counter.count()).isEqualTo(timeouts + 1);
+                    vertxTestContext.completeNow();
+                })));
+    }
+}
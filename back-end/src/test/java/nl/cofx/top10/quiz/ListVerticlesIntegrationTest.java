@@ -1,6 +1,7 @@
 package nl.cofx.top10.quiz;
 
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
 import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
@@ -131,8 +132,11 @@ class ListVerticlesIntegrationTest {
         vertx.deployVerticle(new QuizEntityVerticle(TEST_CONFIG.getJdbcOptions()));
         vertx.deployVerticle(new ListHttpVerticle(router));
         vertx.deployVerticle(new ListEntityVerticle(TEST_CONFIG.getJdbcOptions()));
+        var shardDeployments = QuizShards.shards()
+                .mapToObj(shard -> vertx.deployVerticle(new QuizShardVerticle(TEST_CONFIG.getJdbcOptions(), shard)))
+                .toList();
 
-        server.listen().onComplete(asyncServer -> {
+        Future.all(shardDeployments).compose(shardsDeployed -> server.listen()).onComplete(asyncServer -> {
             if (asyncServer.failed()) {
                 vertxTestContext.failNow(asyncServer.cause());
                 return;
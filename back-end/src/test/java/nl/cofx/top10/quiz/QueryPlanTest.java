@@ -0,0 +1,210 @@
+package nl.cofx.top10.quiz;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import nl.cofx.top10.PostgresExtension;
+import nl.cofx.top10.QueryPlans;
+import nl.cofx.top10.config.TestConfig;
+import nl.cofx.top10.migration.MigrationVerticle;
+import nl.cofx.top10.seed.Seeder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+
+import static nl.cofx.top10.quiz.ListRepository.*;
+import static nl.cofx.top10.quiz.QuizRepository.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(PostgresExtension.class)
+@ExtendWith(VertxExtension.class)
+class QueryPlanTest {
+
+    private static final TestConfig TEST_CONFIG = new TestConfig();
+
+    private static String quizId;
+    private static String listId;
+    private static String accountId;
+    private static String assigneeId;
+    private static String videoId;
+
+    @BeforeAll
+    public static void seed(Vertx vertx) throws Exception {
+        var verticle = new MigrationVerticle(TEST_CONFIG.getJdbcUrl(), TEST_CONFIG.getJdbcUsername(), TEST_CONFIG.getJdbcPassword());
+        var deploymentOptions = new DeploymentOptions().setThreadingModel(ThreadingModel.WORKER);
+        vertx.deployVerticle(verticle, deploymentOptions).toCompletionStage().toCompletableFuture().get();
+
+        try (var connection = getConnection()) {
+            QueryPlans.clear(connection);
+            quizId = new Seeder(QueryPlans.SEED_SHAPE).seed(connection).get(0).toString();
+
+            try (var statement = connection.prepareStatement("SELECT a.list_id, a.account_id, a.assignee_id FROM assignment a JOIN list l ON l.list_id = a.list_id WHERE l.quiz_id = ?::uuid LIMIT 1")) {
+                statement.setString(1, quizId);
+                var assignments = statement.executeQuery();
+                assignments.next();
+                listId = assignments.getString("list_id");
+                accountId = assignments.getString("account_id");
+                assigneeId = assignments.getString("assignee_id");
+            }
+
+            try (var statement = connection.prepareStatement("SELECT video_id FROM video WHERE list_id = ?::uuid LIMIT 1")) {
+                statement.setString(1, listId);
+                var videos = statement.executeQuery();
+                videos.next();
+                videoId = videos.getString("video_id");
+            }
+        }
+    }
+
+    @AfterAll
+    public static void clear() throws SQLException {
+        try (var connection = getConnection()) {
+            QueryPlans.clear(connection);
+        }
+    }
+
+    private static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(TEST_CONFIG.getJdbcUrl(), TEST_CONFIG.getJdbcUsername(), TEST_CONFIG.getJdbcPassword());
+    }
+
+    private void assertNoSequentialScans(String template, Object... parameters) throws SQLException {
+        try (var connection = getConnection()) {
+            assertThat(QueryPlans.sequentiallyScannedRelations(connection, template, parameters))
+                    .as("Relations scanned sequentially by query \"%s\"", template)
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    public void retrievesAllQuizzesWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ALL_QUIZZES_TEMPLATE, accountId);
+    }
+
+    @Test
+    public void retrievesQuizWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ONE_QUIZ_TEMPLATE, accountId, quizId);
+    }
+
+    @Test
+    public void createsQuizWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(CREATE_QUIZ_TEMPLATE, "Greatest Hits", accountId, Instant.now());
+    }
+
+    @Test
+    public void completesQuizWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(COMPLETE_QUIZ_TEMPLATE, accountId, quizId);
+    }
+
+    @Test
+    public void createsListWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(CREATE_LIST_TEMPLATE, accountId, quizId);
+    }
+
+    @Test
+    public void retrievesParticipantsWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_PARTICIPANTS_TEMPLATE, accountId, quizId);
+    }
+
+    @Test
+    public void retrievesQuizModelWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_QUIZ_MODEL_TEMPLATE, quizId);
+    }
+
+    @Test
+    public void retrievesListsOfQuizModelWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_QUIZ_MODEL_LISTS_TEMPLATE, quizId);
+    }
+
+    @Test
+    public void retrievesAssignmentsOfQuizModelWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_QUIZ_MODEL_ASSIGNMENTS_TEMPLATE, quizId);
+    }
+
+    @Test
+    public void retrievesQuizResultWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_QUIZ_RESULT_TEMPLATE, quizId);
+    }
+
+    @Test
+    public void retrievesQuizResultSnapshotWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_QUIZ_RESULT_SNAPSHOT_TEMPLATE, quizId);
+    }
+
+    @Test
+    public void savesQuizResultSnapshotWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(SAVE_QUIZ_RESULT_SNAPSHOT_TEMPLATE, quizId, "{}");
+    }
+
+    @Test
+    public void retrievesAllListsForQuizWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ALL_LISTS_FOR_QUIZ_TEMPLATE, quizId);
+    }
+
+    @Test
+    public void retrievesAllListsForAccountWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ALL_LISTS_FOR_ACCOUNT_TEMPLATE, accountId);
+    }
+
+    @Test
+    public void retrievesVideosForListsWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_VIDEOS_FOR_LISTS_TEMPLATE, List.of(listId));
+    }
+
+    @Test
+    public void validatesAccessToListWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(ACCOUNT_CAN_ACCESS_LIST_TEMPLATE, accountId, listId);
+    }
+
+    @Test
+    public void validatesParticipationWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(ACCOUNT_PARTICIPATES_IN_QUIZ_TEMPLATE, assigneeId, quizId);
+    }
+
+    @Test
+    public void retrievesListWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ONE_LIST_TEMPLATE, listId);
+    }
+
+    @Test
+    public void retrievesListDetailWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_LIST_DETAIL_TEMPLATE, listId, accountId);
+    }
+
+    @Test
+    public void retrievesAssignmentsWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_ASSIGNMENTS_TEMPLATE, List.of(listId), accountId);
+    }
+
+    @Test
+    public void retrievesListByVideoIdWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(GET_LIST_BY_VIDEO_ID_TEMPLATE, videoId);
+    }
+
+    @Test
+    public void addsVideoWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(ADD_VIDEO_TEMPLATE, listId, "https://www.youtube.com/watch?v=RBgcN9lrZ3g", "RBgcN9lrZ3g");
+    }
+
+    @Test
+    public void deletesVideoWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(DELETE_VIDEO_TEMPLATE, videoId);
+    }
+
+    @Test
+    public void finalizesListWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(FINALIZE_LIST_TEMPLATE, listId);
+    }
+
+    @Test
+    public void assignsListWithoutSequentialScans() throws SQLException {
+        assertNoSequentialScans(ASSIGN_LIST_TEMPLATE, listId, accountId, assigneeId);
+    }
+}
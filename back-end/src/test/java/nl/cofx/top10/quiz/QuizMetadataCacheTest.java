@@ -0,0 +1,134 @@
+package nl.cofx.top10.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Ticker;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import nl.cofx.top10.quiz.dto.QuizDto;
+
+class QuizMetadataCacheTest {
+
+    private static final String QUIZ_ID = "0123456789abcdef0123456789abcdef";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+    private final AtomicInteger numberOfLoads = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final String name = "test." + UUID.randomUUID();
+
+    @BeforeEach
+    void addRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    private Future<QuizDto> load() {
+        numberOfLoads.incrementAndGet();
+        return Future.succeededFuture(QuizDto.builder()
+                .id(QUIZ_ID)
+                .name("Quiz")
+                .isActive(true)
+                .creatorId("creator")
+                .isCreator(true)
+                .deadline(Instant.parse("2024-01-01T00:00:00Z"))
+                .personalListId("list")
+                .personalListHasDraftStatus(true)
+                .build());
+    }
+
+    @Test
+    void loadsMetadataOnceAndStripsPersonalFields() {
+        var quizMetadataCache = new QuizMetadataCache(name, 10, Duration.ofMinutes(1), ticker);
+
+        var first = quizMetadataCache.get(QUIZ_ID, this::load).result();
+        var second = quizMetadataCache.get(QUIZ_ID, this::load).result();
+
+        assertThat(numberOfLoads).hasValue(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(second.isActive()).isTrue();
+        assertThat(second.getCreatorId()).isEqualTo("creator");
+        assertThat(second.isCreator()).isFalse();
+        assertThat(second.getPersonalListId()).isNull();
+        assertThat(second.getPersonalListHasDraftStatus()).isNull();
+        assertThat(getCount("hit")).isEqualTo(1);
+        assertThat(getCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsMetadataAfterInvalidation() {
+        var quizMetadataCache = new QuizMetadataCache(name, 10, Duration.ofMinutes(1), ticker);
+
+        quizMetadataCache.get(QUIZ_ID, this::load);
+        quizMetadataCache.invalidate("01234567-89AB-CDEF-0123-456789ABCDEF");
+        quizMetadataCache.get(QUIZ_ID, this::load);
+
+        assertThat(numberOfLoads).hasValue(2);
+    }
+
+    @Test
+    void reloadsMetadataAfterTimeToLive() {
+        var quizMetadataCache = new QuizMetadataCache(name, 10, Duration.ofMinutes(1), ticker);
+
+        quizMetadataCache.get(QUIZ_ID, this::load);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        quizMetadataCache.get(QUIZ_ID, this::load);
+        assertThat(numberOfLoads).hasValue(1);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        quizMetadataCache.get(QUIZ_ID, this::load);
+        assertThat(numberOfLoads).hasValue(2);
+    }
+
+    @Test
+    void discardsMetadataLoadedBeforeInvalidation() {
+        var quizMetadataCache = new QuizMetadataCache(name, 10, Duration.ofMinutes(1), ticker);
+        Promise<QuizDto> straddlingLoad = Promise.promise();
+
+        var straddling = quizMetadataCache.get(QUIZ_ID, straddlingLoad::future);
+        quizMetadataCache.invalidate(QUIZ_ID);
+        load().onSuccess(straddlingLoad::complete);
+        quizMetadataCache.get(QUIZ_ID, this::load);
+
+        assertThat(straddling.result().isActive()).isTrue();
+        assertThat(numberOfLoads).hasValue(2);
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        var quizMetadataCache = new QuizMetadataCache(name, 10, Duration.ofMinutes(1), ticker);
+
+        var failed = quizMetadataCache.get(QUIZ_ID, () -> Future.failedFuture(new IllegalStateException()));
+        quizMetadataCache.get(QUIZ_ID, this::load);
+
+        assertThat(failed.failed()).isTrue();
+        assertThat(numberOfLoads).hasValue(1);
+    }
+
+    private double getCount(String result) {
+        return registry.get("cache.gets").tag("cache", name).tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,149 @@
+package nl.cofx.top10.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import nl.cofx.top10.quiz.dto.ListDto;
+import nl.cofx.top10.quiz.dto.ParticipantDto;
+
+class QuizModelTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private static final Instant DEADLINE = NOW.plus(Duration.ofDays(1));
+
+    private QuizModel quizModel() {
+        var quizModel = new QuizModel("quiz", "Greatest Hits", "creator", DEADLINE, true);
+        quizModel.addList("list1", "creator", "John Doe", false);
+        quizModel.addList("list2", "participant", "Jane Doe", false);
+        quizModel.addList("list3", "drafter", "Jack Doe", true);
+        return quizModel;
+    }
+
+    @Test
+    void describesQuizForParticipant() {
+        var quizDto = quizModel().toQuizDto("drafter");
+
+        assertThat(quizDto.getId()).isEqualTo("quiz");
+        assertThat(quizDto.isCreator()).isFalse();
+        assertThat(quizDto.getPersonalListId()).isEqualTo("list3");
+        assertThat(quizDto.getPersonalListHasDraftStatus()).isTrue();
+    }
+
+    @Test
+    void describesQuizForAnonymousAccount() {
+        var quizDto = quizModel().toQuizDto(null);
+
+        assertThat(quizDto.isCreator()).isFalse();
+        assertThat(quizDto.getPersonalListId()).isNull();
+        assertThat(quizDto.getPersonalListHasDraftStatus()).isNull();
+    }
+
+    @Test
+    void listsFinalizedListsWithOwnAssignments() {
+        var quizModel = quizModel();
+        quizModel.assignList("creator", "list2", "participant");
+        quizModel.assignList("participant", "list1", "drafter");
+
+        var lists = quizModel.getFinalizedLists("creator");
+
+        assertThat(lists).extracting(ListDto::getId).containsExactly("list1", "list2");
+        assertThat(lists.get(0).isOwnList()).isTrue();
+        assertThat(lists.get(0).getAssigneeId()).isNull();
+        assertThat(lists.get(1).getAssigneeId()).isEqualTo("participant");
+        assertThat(lists.get(1).getAssigneeName()).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    void includesListsOnceFinalized() {
+        var quizModel = quizModel();
+        quizModel.finalizeList("list3");
+
+        assertThat(quizModel.listHasDraftStatus("list3")).isFalse();
+        assertThat(quizModel.getFinalizedLists("creator")).extracting(ListDto::getId).containsExactly("list1", "list2", "list3");
+    }
+
+    @Test
+    void listsParticipantsWithListsAssignedToThem() {
+        var quizModel = quizModel();
+        quizModel.assignList("creator", "list2", "drafter");
+        quizModel.assignList("participant", "list1", "participant");
+
+        var participants = quizModel.getParticipants("creator");
+
+        assertThat(participants).hasSize(3);
+        var creator = participants.get(0);
+        assertThat(creator.getId()).isEqualTo("creator");
+        assertThat(creator.isOwnAccount()).isTrue();
+        var drafter = participants.get(1);
+        assertThat(drafter.getId()).isEqualTo("drafter");
+        assertThat(drafter.getListHasDraftStatus()).isTrue();
+        assertThat(drafter.getAssignedLists()).containsExactly("list2");
+        assertThat(participants.get(2).getAssignedLists()).isEmpty();
+    }
+
+    @Test
+    void grantsAccessToOwnListBeforeDeadline() {
+        var quizModel = quizModel();
+
+        assertThat(quizModel.canAccessList("participant", "list2", NOW)).isTrue();
+        assertThat(quizModel.canAccessList("participant", "list1", NOW)).isFalse();
+        assertThat(quizModel.canAccessList("outsider", "list1", NOW)).isFalse();
+    }
+
+    @Test
+    void grantsAccessToAllListsAfterDeadline() {
+        var quizModel = quizModel();
+
+        assertThat(quizModel.canAccessList("participant", "list1", DEADLINE)).isTrue();
+        assertThat(quizModel.canAccessList("participant", "list4", DEADLINE)).isFalse();
+    }
+
+    @Test
+    void completesQuiz() {
+        var quizModel = quizModel();
+        quizModel.complete();
+
+        assertThat(quizModel.isActive()).isFalse();
+        assertThat(quizModel.getFinalizedLists("creator")).allMatch(list -> !list.isActiveQuiz());
+    }
+
+    @Test
+    void matchesIdsRegardlessOfDashesAndCase() {
+        var creatorId = "0b4b2f8e-6f0e-4d5c-9a1e-3c2d1b0a9f8e";
+        var participantId = "7c6d5e4f-3a2b-4c1d-8e9f-0a1b2c3d4e5f";
+        var creatorListId = "1f2e3d4c-5b6a-4978-8a9b-0c1d2e3f4a5b";
+        var participantListId = "9a8b7c6d-5e4f-4321-8fed-cba987654321";
+        var quizModel = new QuizModel("quiz", "Greatest Hits", creatorId, DEADLINE, true);
+        quizModel.addList(creatorListId, creatorId, "John Doe", false);
+        quizModel.addList(participantListId, participantId, "Jane Doe", true);
+
+        var undashedCreatorId = creatorId.replace("-", "").toUpperCase();
+        var undashedParticipantId = participantId.replace("-", "");
+        var undashedCreatorListId = creatorListId.replace("-", "");
+        var undashedParticipantListId = participantListId.replace("-", "").toUpperCase();
+
+        assertThat(quizModel.isCreator(undashedCreatorId)).isTrue();
+        assertThat(quizModel.participates(undashedParticipantId)).isTrue();
+        assertThat(quizModel.hasList(undashedParticipantListId)).isTrue();
+        assertThat(quizModel.isListCreator(undashedParticipantId, undashedParticipantListId)).isTrue();
+        assertThat(quizModel.isListCreator(undashedCreatorId, undashedParticipantListId)).isFalse();
+        assertThat(quizModel.listHasDraftStatus(undashedParticipantListId)).isTrue();
+        assertThat(quizModel.canAccessList(undashedParticipantId, undashedParticipantListId, NOW)).isTrue();
+        assertThat(quizModel.toQuizDto(undashedCreatorId).isCreator()).isTrue();
+
+        quizModel.finalizeList(undashedParticipantListId);
+        quizModel.assignList(undashedCreatorId, undashedParticipantListId, undashedParticipantId);
+
+        var lists = quizModel.getFinalizedLists(creatorId);
+        assertThat(lists).extracting(ListDto::getId).containsExactly(creatorListId, participantListId);
+        assertThat(lists.get(1).getAssigneeName()).isEqualTo("Jane Doe");
+        var participants = quizModel.getParticipants(undashedCreatorId);
+        assertThat(participants).extracting(ParticipantDto::getId).containsExactly(creatorId, participantId);
+        assertThat(participants.get(0).isOwnAccount()).isTrue();
+        assertThat(participants.get(1).getAssignedLists()).containsExactly(participantListId);
+    }
+}
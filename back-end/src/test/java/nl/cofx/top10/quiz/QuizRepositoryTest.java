@@ -0,0 +1,59 @@
+package nl.cofx.top10.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class QuizRepositoryTest {
+
+    @Test
+    void completesPersonalResultsWithUnassignedLists() {
+        var correctAssignment = new JsonObject()
+                .put("listId", "list2")
+                .put("assigneeId", "account2")
+                .put("assigneeName", "Two")
+                .put("creatorId", "account2")
+                .put("creatorName", "Two");
+        var incorrectAssignment = new JsonObject()
+                .put("listId", "list1")
+                .put("assigneeId", "account3")
+                .put("assigneeName", "Three")
+                .put("creatorId", "account1")
+                .put("creatorName", "One");
+        var participants = List.of(
+                participant("account1", "One", "list1", new JsonArray().add(correctAssignment), new JsonArray()),
+                participant("account2", "Two", "list2", new JsonArray(), new JsonArray().add(incorrectAssignment)),
+                participant("account3", "Three", "list3", new JsonArray(), new JsonArray()));
+
+        var personalResults = QuizRepository.toPersonalResults(participants);
+
+        assertThat(personalResults).hasSize(3);
+
+        var first = personalResults.get("account1");
+        assertThat(first.getCorrectAssignments()).extracting("listId").containsExactly("list2");
+        assertThat(first.getIncorrectAssignments()).extracting("listId").containsExactly("list3");
+        assertThat(first.getIncorrectAssignments().get(0).getAssigneeId()).isNull();
+
+        var second = personalResults.get("account2");
+        assertThat(second.getCorrectAssignments()).isEmpty();
+        assertThat(second.getIncorrectAssignments()).extracting("listId").containsExactlyInAnyOrder("list1", "list3");
+
+        var third = personalResults.get("account3");
+        assertThat(third.getCorrectAssignments()).isEmpty();
+        assertThat(third.getIncorrectAssignments()).extracting("listId").containsExactlyInAnyOrder("list1", "list2");
+    }
+
+    private JsonObject participant(String accountId, String name, String listId, JsonArray correctAssignments, JsonArray incorrectAssignments) {
+        return new JsonObject()
+                .put("accountId", accountId)
+                .put("name", name)
+                .put("listId", listId)
+                .put("correctAssignments", correctAssignments)
+                .put("incorrectAssignments", incorrectAssignments);
+    }
+}
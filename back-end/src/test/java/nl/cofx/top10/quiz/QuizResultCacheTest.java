@@ -0,0 +1,72 @@
+package nl.cofx.top10.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.buffer.Buffer;
+
+class QuizResultCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final String name = "test." + UUID.randomUUID();
+
+    @BeforeEach
+    void addRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        var quizResultCache = new QuizResultCache(name, 1_000);
+        var result = Buffer.buffer("{\"quizId\":\"1\"}");
+
+        assertThat(quizResultCache.get("1")).isNull();
+        quizResultCache.put("1", result);
+        assertThat(quizResultCache.get("1")).isEqualTo(result);
+        assertThat(quizResultCache.get("2")).isNull();
+
+        assertThat(getCount("hit")).isEqualTo(1);
+        assertThat(getCount("miss")).isEqualTo(2);
+        assertThat(getEvictionCount()).isZero();
+    }
+
+    @Test
+    void evictsResultsWhenExceedingMaximumWeight() {
+        var quizResultCache = new QuizResultCache(name, 1_000);
+        var result = Buffer.buffer("x".repeat(100));
+
+        for (var i = 0; i < 100; ++i) {
+            quizResultCache.put(String.valueOf(i), result);
+        }
+
+        var numberOfCachedResults = 0;
+        for (var i = 0; i < 100; ++i) {
+            if (quizResultCache.get(String.valueOf(i)) != null) {
+                ++numberOfCachedResults;
+            }
+        }
+
+        assertThat(numberOfCachedResults).isLessThanOrEqualTo(10);
+        assertThat(getEvictionCount()).isEqualTo(100 - numberOfCachedResults);
+    }
+
+    private double getCount(String result) {
+        return registry.get("cache.gets").tag("cache", name).tag("result", result).functionCounter().count();
+    }
+
+    private double getEvictionCount() {
+        return registry.get("cache.evictions").tag("cache", name).functionCounter().count();
+    }
+}
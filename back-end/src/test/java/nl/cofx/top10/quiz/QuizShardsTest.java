@@ -0,0 +1,31 @@
+package nl.cofx.top10.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class QuizShardsTest {
+
+    @Test
+    void mapsEquivalentQuizIdsToSameShard() {
+        var quizId = UUID.randomUUID().toString();
+
+        assertThat(QuizShards.shardOf(quizId)).isEqualTo(QuizShards.shardOf(quizId.replace("-", "").toUpperCase()));
+    }
+
+    @Test
+    void mapsQuizIdsToShards() {
+        for (var i = 0; i < 1_000; ++i) {
+            assertThat(QuizShards.shardOf(UUID.randomUUID().toString())).isBetween(0, QuizShards.NUMBER_OF_SHARDS - 1);
+        }
+    }
+
+    @Test
+    void appendsShardToAddress() {
+        var quizId = UUID.randomUUID().toString();
+
+        assertThat(QuizShards.address("entity.quiz.getOne", quizId)).isEqualTo("entity.quiz.getOne.shard." + QuizShards.shardOf(quizId));
+    }
+}
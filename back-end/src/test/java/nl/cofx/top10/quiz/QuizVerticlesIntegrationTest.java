@@ -1,6 +1,7 @@
 package nl.cofx.top10.quiz;
 
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
 import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
@@ -118,8 +119,11 @@ class QuizVerticlesIntegrationTest {
         vertx.deployVerticle(new QuizHttpVerticle(router));
         vertx.deployVerticle(new ListHttpVerticle(router));
         vertx.deployVerticle(new ListEntityVerticle(TEST_CONFIG.getJdbcOptions()));
+        var shardDeployments = QuizShards.shards()
+                .mapToObj(shard -> vertx.deployVerticle(new QuizShardVerticle(TEST_CONFIG.getJdbcOptions(), shard)))
+                .toList();
 
-        server.listen().onComplete(asyncServer -> {
+        Future.all(shardDeployments).compose(shardsDeployed -> server.listen()).onComplete(asyncServer -> {
             if (asyncServer.failed()) {
                 vertxTestContext.failNow(asyncServer.cause());
                 return;
@@ -530,6 +534,28 @@ class QuizVerticlesIntegrationTest {
         vertxTestContext.completeNow();
     }
 
+    @Test
+    public void storesResultSnapshotWhenCompletingQuiz(VertxTestContext vertxTestContext) throws IOException, InterruptedException, SQLException {
+        userHandler.logIn(accountId1);
+        var createQuizResponse = httpClient.createQuiz(quiz());
+        var quizId = createQuizResponse.body().getString("id");
+        httpClient.completeQuiz(quizId);
+
+        var connection = getConnection();
+        var statement = connection.prepareStatement("SELECT result FROM quiz_result WHERE quiz_id = ?");
+        statement.setObject(1, toUuid(quizId));
+        var resultSet = statement.executeQuery();
+        assertThat(resultSet.next()).isTrue();
+        var result = new JsonObject(resultSet.getString("result"));
+        connection.close();
+
+        assertThat(result.getString("quizId")).isEqualTo(quizId);
+        assertThat(result.getJsonObject("personalResults")).isEmpty();
+        assertThat(result.getJsonArray("ranking")).isEmpty();
+
+        vertxTestContext.completeNow();
+    }
+
     @Test
     public void returns403WhenRequestingResultsForActiveQuiz(VertxTestContext vertxTestContext) throws IOException, InterruptedException {
         userHandler.logIn(accountId1);
@@ -0,0 +1,109 @@
+package nl.cofx.top10.quiz.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class JsonBodyTest {
+
+    private static final AssignmentDto ASSIGNMENT = AssignmentDto.builder()
+            .listId("456")
+            .creatorId("789")
+            .creatorName("Jane \"JD\" Doe")
+            .assigneeId("789")
+            .build();
+
+    @Test
+    public void writesQuizzesAsJsonObjectsWould() {
+        var quizzesDto = QuizzesDto.builder()
+                .quiz(QuizDto.builder()
+                        .id("123")
+                        .name("abcd")
+                        .isActive(true)
+                        .creatorId("456")
+                        .isCreator(true)
+                        .deadline(Instant.now())
+                        .personalListId("789")
+                        .personalListHasDraftStatus(false)
+                        .build())
+                .quiz(QuizDto.builder()
+                        .id("321")
+                        .name("dcba")
+                        .build())
+                .build();
+
+        assertThat(new JsonArray(quizzesDto.toBuffer())).isEqualTo(new JsonArray(quizzesDto.toJsonArray().toBuffer()));
+    }
+
+    @Test
+    public void writesListsAsJsonObjectsWould() {
+        var listsDto = ListsDto.builder()
+                .list(ListDto.builder()
+                        .id("123")
+                        .creatorId("456")
+                        .creatorName("John Doe")
+                        .isOwnList(true)
+                        .assigneeId("abcd")
+                        .assigneeName("Jane Doe")
+                        .quizId("321")
+                        .hasDraftStatus(true)
+                        .videos(List.of(VideoDto.builder()
+                                .id("654")
+                                .url("http://www.example.org/abcde")
+                                .build()))
+                        .build())
+                .list(ListDto.builder()
+                        .id("234")
+                        .isActiveQuiz(true)
+                        .build())
+                .build();
+
+        assertThat(new JsonArray(listsDto.toBuffer())).isEqualTo(new JsonArray(listsDto.toJsonArray().toBuffer()));
+    }
+
+    @Test
+    public void writesResultSummaryAsJsonObjectWould() {
+        var resultSummaryDto = ResultSummaryDto.builder()
+                .quizId("abc")
+                .personalResults(Map.of(
+                        "321", PersonalResultDto.builder()
+                                .accountId("321")
+                                .name("John Doe")
+                                .correctAssignment(ASSIGNMENT)
+                                .build(),
+                        "654", PersonalResultDto.builder()
+                                .accountId("654")
+                                .name("Jim Doe")
+                                .incorrectAssignment(ASSIGNMENT)
+                                .build()))
+                .build();
+
+        assertThat(new JsonObject(resultSummaryDto.toBuffer())).isEqualTo(new JsonObject(resultSummaryDto.toJsonObject().toBuffer()));
+    }
+
+    @Test
+    public void writesParticipantsAsJsonObjectsWould() {
+        var participants = List.of(
+                ParticipantDto.builder()
+                        .id("123")
+                        .name("John Doe")
+                        .listHasDraftStatus(false)
+                        .assignedList("456")
+                        .assignedList("789")
+                        .isOwnAccount(true)
+                        .build(),
+                ParticipantDto.builder()
+                        .id("321")
+                        .name("Jane Doe")
+                        .build());
+
+        assertThat(new JsonArray(ParticipantDto.toBuffer(participants))).isEqualTo(new JsonArray(ParticipantDto.toJsonArray(participants).toBuffer()));
+    }
+}
@@ -1,6 +1,7 @@
 package nl.cofx.top10.quiz.dto;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 
@@ -34,4 +35,41 @@ class ListDtoMessageCodecTest {
 
         assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(listDto);
     }
+
+    @Test
+    public void encodesListDtoWithoutOptionalFields() {
+        var listDto = ListDto.builder()
+                .id("123")
+                .isOwnList(false)
+                .isActiveQuiz(false)
+                .build();
+
+        var buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, listDto);
+
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(listDto);
+    }
+
+    @Test
+    public void decodesFromGivenPosition() {
+        var listDto = ListDto.builder()
+                .id("123")
+                .creatorName("Jöhn Døe")
+                .videos(List.of())
+                .build();
+
+        var buffer = Buffer.buffer("prefix");
+        codec.encodeToWire(buffer, listDto);
+
+        assertThat(codec.decodeFromWire(6, buffer)).isEqualTo(listDto);
+    }
+
+    @Test
+    public void rejectsUnsupportedVersion() {
+        var buffer = Buffer.buffer().appendByte((byte) 0).appendInt(2).appendString("{}");
+
+        assertThatThrownBy(() -> codec.decodeFromWire(0, buffer))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unsupported wire format version: 0");
+    }
 }
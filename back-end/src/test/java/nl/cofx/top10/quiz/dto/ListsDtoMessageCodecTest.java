@@ -38,4 +38,14 @@ class ListsDtoMessageCodecTest {
 
         assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(listsDto);
     }
+
+    @Test
+    public void encodesEmptyListsDto() {
+        var listsDto = ListsDto.builder().build();
+
+        var buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, listsDto);
+
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(listsDto);
+    }
 }
@@ -30,4 +30,20 @@ class QuizDtoMessageCodecTest {
 
         assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(quizDto);
     }
+
+    @Test
+    public void encodesQuizDtoWithoutOptionalFields() {
+        var quizDto = QuizDto.builder()
+                .id("123")
+                .name("abcd")
+                .isActive(false)
+                .creatorId("456")
+                .isCreator(true)
+                .build();
+
+        var buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, quizDto);
+
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(quizDto);
+    }
 }
@@ -44,4 +44,72 @@ class ResultSummaryDtoMessageCodecTest {
 
         assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(resultSummaryDto);
     }
+
+    @Test
+    public void encodesResultSummaryDtoWithoutPersonalResults() {
+        var resultSummaryDto = ResultSummaryDto.builder()
+                .quizId("abc")
+                .build();
+
+        var buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, resultSummaryDto);
+
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(resultSummaryDto);
+    }
+
+    @Test
+    public void encodesRanking() {
+        var ranking = List.of(RankingEntryDto.builder()
+                .rank(1)
+                .accountId("321")
+                .name("John Doe")
+                .numberOfCorrectAssignments(1)
+                .build());
+        var resultSummaryDto = ResultSummaryDto.builder()
+                .quizId("abc")
+                .ranking(ranking)
+                .build();
+
+        var buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, resultSummaryDto);
+
+        assertThat(codec.decodeFromWire(0, buffer).getRanking()).isEqualTo(ranking);
+    }
+
+    @Test
+    public void decodesVersionOnePayload() {
+        var personalResult = PersonalResultDto.builder()
+                .accountId("321")
+                .name("John Doe")
+                .correctAssignments(List.of(AssignmentDto.builder()
+                        .listId("456")
+                        .creatorId("789")
+                        .creatorName("Jane Doe")
+                        .assigneeId("789")
+                        .assigneeName("Jane Doe")
+                        .build()))
+                .incorrectAssignments(List.of())
+                .build();
+
+        var buffer = Buffer.buffer();
+        WireWriter.versioned(buffer, (byte) 1)
+                .writeString("abc")
+                .writeList(List.of(Map.entry("321", personalResult)), (entry, entryWriter) -> {
+                    entryWriter.writeString(entry.getKey());
+                    entry.getValue().writeTo(entryWriter);
+                });
+
+        var decoded = codec.decodeFromWire(0, buffer);
+
+        assertThat(decoded).isEqualTo(ResultSummaryDto.builder()
+                .quizId("abc")
+                .personalResults(Map.of("321", personalResult))
+                .build());
+        assertThat(decoded.getRanking()).containsExactly(RankingEntryDto.builder()
+                .rank(1)
+                .accountId("321")
+                .name("John Doe")
+                .numberOfCorrectAssignments(1)
+                .build());
+    }
 }
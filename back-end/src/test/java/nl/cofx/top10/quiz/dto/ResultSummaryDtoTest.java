@@ -6,6 +6,9 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
 class ResultSummaryDtoTest {
 
     @Test
@@ -93,6 +96,25 @@ class ResultSummaryDtoTest {
                         .build());
     }
 
+    @Test
+    void usesStoredRankingInsteadOfComputingIt() {
+        var storedRankingEntry = RankingEntryDto.builder()
+                .accountId("1")
+                .name("One")
+                .rank(1)
+                .numberOfCorrectAssignments(3)
+                .build();
+        var jsonObject = new JsonObject()
+                .put("quizId", "abc")
+                .put("personalResults", new JsonObject())
+                .put("ranking", new JsonArray().add(storedRankingEntry.toJsonObject()));
+
+        var resultSummaryDto = ResultSummaryDto.fromJsonObject(jsonObject);
+
+        assertThat(resultSummaryDto.getRanking()).containsExactly(storedRankingEntry);
+        assertThat(resultSummaryDto.toJsonObject().getJsonArray("ranking")).isEqualTo(jsonObject.getJsonArray("ranking"));
+    }
+
     private AssignmentDto assignment() {
         return AssignmentDto.builder().build();
     }
@@ -0,0 +1,76 @@
+package nl.cofx.top10.quiz.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+class WireFormatTest {
+
+    @Test
+    public void encodesParticipantDto() {
+        var participantDto = ParticipantDto.builder()
+                .id("123")
+                .name("John Doe")
+                .listHasDraftStatus(false)
+                .assignedList("456")
+                .assignedList("789")
+                .isOwnAccount(true)
+                .build();
+
+        var buffer = Buffer.buffer();
+        participantDto.writeTo(WireWriter.versioned(buffer));
+
+        assertThat(ParticipantDto.readFrom(WireReader.versioned(0, buffer))).isEqualTo(participantDto);
+    }
+
+    @Test
+    public void encodesParticipantDtoWithoutDraftStatus() {
+        var participantDto = ParticipantDto.builder()
+                .id("321")
+                .name("Jane Doe")
+                .build();
+
+        var buffer = Buffer.buffer();
+        participantDto.writeTo(WireWriter.versioned(buffer));
+
+        assertThat(ParticipantDto.readFrom(WireReader.versioned(0, buffer))).isEqualTo(participantDto);
+    }
+
+    @Test
+    public void encodesRankingEntryDto() {
+        var rankingEntryDto = RankingEntryDto.builder()
+                .rank(2)
+                .accountId("123")
+                .name("John Doe")
+                .numberOfCorrectAssignments(3)
+                .build();
+
+        var buffer = Buffer.buffer();
+        rankingEntryDto.writeTo(WireWriter.versioned(buffer));
+
+        assertThat(RankingEntryDto.readFrom(WireReader.versioned(0, buffer))).isEqualTo(rankingEntryDto);
+    }
+
+    @Test
+    public void readsPreviousVersion() {
+        var buffer = Buffer.buffer();
+        WireWriter.versioned(buffer, (byte) (WireWriter.VERSION - 1)).writeString("abc");
+
+        var reader = WireReader.versioned(0, buffer);
+
+        assertThat(reader.getVersion()).isEqualTo((byte) (WireWriter.VERSION - 1));
+        assertThat(reader.readString()).isEqualTo("abc");
+    }
+
+    @Test
+    public void rejectsNewerVersion() {
+        var buffer = Buffer.buffer();
+        WireWriter.versioned(buffer, (byte) (WireWriter.VERSION + 1)).writeString("abc");
+
+        assertThatThrownBy(() -> WireReader.versioned(0, buffer))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
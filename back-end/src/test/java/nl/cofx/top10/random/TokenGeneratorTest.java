@@ -2,6 +2,9 @@ package nl.cofx.top10.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 class TokenGeneratorTest {
@@ -12,4 +15,19 @@ class TokenGeneratorTest {
         assertThat(token).isNotBlank();
         assertThat(token).hasSize(32);
     }
+
+    @Test
+    public void generatesHexadecimalToken() {
+        var token = TokenGenerator.generateToken();
+        assertThat(token).matches("[0-9a-f]{32}");
+    }
+
+    @Test
+    public void generatesDistinctTokens() {
+        var tokens = IntStream.range(0, 1000)
+                .parallel()
+                .mapToObj(i -> TokenGenerator.generateToken())
+                .collect(Collectors.toSet());
+        assertThat(tokens).hasSize(1000);
+    }
 }
@@ -0,0 +1,52 @@
+package nl.cofx.top10.seed;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Value
+@Builder
+public class SeedShape {
+
+    public static final Instant DEFAULT_REFERENCE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Builder.Default
+    long randomSeed = 42;
+    @Builder.Default
+    int numberOfAccounts = 5_000;
+    @Builder.Default
+    int numberOfQuizzes = 20;
+    @Builder.Default
+    int participantsPerQuiz = 500;
+    @Builder.Default
+    int videosPerList = 10;
+    @Builder.Default
+    double draftListFraction = 0.1;
+    @Builder.Default
+    double assignmentFraction = 1.0;
+    @Builder.Default
+    double correctAssignmentFraction = 0.3;
+    @Builder.Default
+    double activeQuizFraction = 0.5;
+    @Builder.Default
+    Duration deadlineSpread = Duration.ofDays(30);
+    @Builder.Default
+    Instant referenceTime = DEFAULT_REFERENCE_TIME;
+
+    public static SeedShape fromSystemProperties() {
+        return SeedShape.builder()
+                .randomSeed(Long.getLong("seed.randomSeed", 42))
+                .numberOfAccounts(Integer.getInteger("seed.numberOfAccounts", 5_000))
+                .numberOfQuizzes(Integer.getInteger("seed.numberOfQuizzes", 20))
+                .participantsPerQuiz(Integer.getInteger("seed.participantsPerQuiz", 500))
+                .videosPerList(Integer.getInteger("seed.videosPerList", 10))
+                .draftListFraction(Double.parseDouble(System.getProperty("seed.draftListFraction", "0.1")))
+                .assignmentFraction(Double.parseDouble(System.getProperty("seed.assignmentFraction", "1.0")))
+                .correctAssignmentFraction(Double.parseDouble(System.getProperty("seed.correctAssignmentFraction", "0.3")))
+                .activeQuizFraction(Double.parseDouble(System.getProperty("seed.activeQuizFraction", "0.5")))
+                .referenceTime(Instant.parse(System.getProperty("seed.referenceTime", DEFAULT_REFERENCE_TIME.toString())))
+                .build();
+    }
+}
@@ -0,0 +1,231 @@
+package nl.cofx.top10.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+public class Seeder {
+
+    private static final String VIDEO_REFERENCE_ID_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final int VIDEO_REFERENCE_ID_LENGTH = 11;
+
+    private final SeedShape shape;
+
+    @Value
+    private static class SeededList {
+
+        UUID listId;
+        int creator;
+        boolean hasDraftStatus;
+    }
+
+    @Value
+    private static class SeededQuiz {
+
+        UUID quizId;
+        int creator;
+        List<SeededList> lists;
+    }
+
+    public List<UUID> seed(Connection connection) throws SQLException, IOException {
+        if (shape.getParticipantsPerQuiz() > shape.getNumberOfAccounts()) {
+            throw new IllegalArgumentException(String.format("Unable to let %d accounts participate in a quiz with %d accounts", shape.getParticipantsPerQuiz(), shape.getNumberOfAccounts()));
+        }
+
+        var random = new Random(shape.getRandomSeed());
+        var accountIds = new UUID[shape.getNumberOfAccounts()];
+        for (var i = 0; i < accountIds.length; ++i) {
+            accountIds[i] = randomUuid(random);
+        }
+
+        var quizzes = new ArrayList<SeededQuiz>(shape.getNumberOfQuizzes());
+        for (var q = 0; q < shape.getNumberOfQuizzes(); ++q) {
+            quizzes.add(createQuiz(random, accountIds.length));
+        }
+
+        var pgConnection = connection.unwrap(PGConnection.class);
+        copyAccounts(pgConnection, accountIds);
+        copyQuizzes(pgConnection, accountIds, quizzes);
+        copyLists(pgConnection, accountIds, quizzes);
+        copyVideos(pgConnection, quizzes);
+        var numberOfAssignments = copyAssignments(pgConnection, accountIds, quizzes);
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+
+        log.info("Seeded {} accounts, {} quizzes with {} participants each, and {} assignments", accountIds.length, quizzes.size(), shape.getParticipantsPerQuiz(), numberOfAssignments);
+        return quizzes.stream().map(SeededQuiz::getQuizId).toList();
+    }
+
+    private SeededQuiz createQuiz(Random random, int numberOfAccounts) {
+        var quizId = randomUuid(random);
+        var participants = sample(random, numberOfAccounts, shape.getParticipantsPerQuiz());
+        var lists = new ArrayList<SeededList>(participants.length);
+        for (var participant : participants) {
+            lists.add(new SeededList(randomUuid(random), participant, random.nextDouble() < shape.getDraftListFraction()));
+        }
+
+        return new SeededQuiz(quizId, participants[0], lists);
+    }
+
+    private static int[] sample(Random random, int bound, int size) {
+        var indexes = new int[bound];
+        for (var i = 0; i < bound; ++i) {
+            indexes[i] = i;
+        }
+
+        for (var i = 0; i < size; ++i) {
+            var j = i + random.nextInt(bound - i);
+            var index = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = index;
+        }
+
+        var sample = new int[size];
+        System.arraycopy(indexes, 0, sample, 0, size);
+        return sample;
+    }
+
+    private void copyAccounts(PGConnection connection, UUID[] accountIds) throws SQLException, IOException {
+        var loginTime = shape.getReferenceTime().minus(shape.getDeadlineSpread());
+        try (var writer = copy(connection, "COPY account (account_id, name, email_address, first_login_at, last_login_at, number_of_logins) FROM STDIN")) {
+            for (var i = 0; i < accountIds.length; ++i) {
+                writeRow(writer, accountIds[i], "Account " + i, "account" + i + "@example.org", loginTime, loginTime, 1);
+            }
+        }
+
+        try (var writer = copy(connection, "COPY google_account (google_account_id, account_id) FROM STDIN")) {
+            for (var i = 0; i < accountIds.length; ++i) {
+                writeRow(writer, "google" + i, accountIds[i]);
+            }
+        }
+
+        try (var writer = copy(connection, "COPY microsoft_account (microsoft_account_id, account_id) FROM STDIN")) {
+            for (var i = 0; i < accountIds.length; ++i) {
+                writeRow(writer, "microsoft" + i, accountIds[i]);
+            }
+        }
+    }
+
+    private void copyQuizzes(PGConnection connection, UUID[] accountIds, List<SeededQuiz> quizzes) throws SQLException, IOException {
+        var random = new Random(shape.getRandomSeed() + 1);
+        var deadlineSpreadInSeconds = shape.getDeadlineSpread().toSeconds();
+        try (var writer = copy(connection, "COPY quiz (quiz_id, name, is_active, creator_id, deadline) FROM STDIN")) {
+            for (var q = 0; q < quizzes.size(); ++q) {
+                var quiz = quizzes.get(q);
+                var deadline = shape.getReferenceTime().plusSeconds(random.nextLong(-deadlineSpreadInSeconds, deadlineSpreadInSeconds + 1));
+                var isActive = random.nextDouble() < shape.getActiveQuizFraction();
+                writeRow(writer, quiz.getQuizId(), "Quiz " + q, isActive, accountIds[quiz.getCreator()], deadline);
+            }
+        }
+    }
+
+    private void copyLists(PGConnection connection, UUID[] accountIds, List<SeededQuiz> quizzes) throws SQLException, IOException {
+        try (var writer = copy(connection, "COPY list (list_id, account_id, quiz_id, has_draft_status) FROM STDIN")) {
+            for (var quiz : quizzes) {
+                for (var list : quiz.getLists()) {
+                    writeRow(writer, list.getListId(), accountIds[list.getCreator()], quiz.getQuizId(), list.isHasDraftStatus());
+                }
+            }
+        }
+    }
+
+    private void copyVideos(PGConnection connection, List<SeededQuiz> quizzes) throws SQLException, IOException {
+        var random = new Random(shape.getRandomSeed() + 2);
+        try (var writer = copy(connection, "COPY video (video_id, list_id, url, reference_id) FROM STDIN")) {
+            for (var quiz : quizzes) {
+                for (var list : quiz.getLists()) {
+                    for (var v = 0; v < shape.getVideosPerList(); ++v) {
+                        var referenceId = randomVideoReferenceId(random);
+                        writeRow(writer, randomUuid(random), list.getListId(), "https://www.youtube.com/watch?v=" + referenceId, referenceId);
+                    }
+                }
+            }
+        }
+    }
+
+    private long copyAssignments(PGConnection connection, UUID[] accountIds, List<SeededQuiz> quizzes) throws SQLException, IOException {
+        var random = new Random(shape.getRandomSeed() + 3);
+        var numberOfAssignments = 0L;
+        try (var writer = copy(connection, "COPY assignment (list_id, account_id, assignee_id) FROM STDIN")) {
+            for (var quiz : quizzes) {
+                var lists = quiz.getLists();
+                for (var assigner : lists) {
+                    for (var list : lists) {
+                        if (list == assigner || list.isHasDraftStatus() || random.nextDouble() >= shape.getAssignmentFraction()) {
+                            continue;
+                        }
+
+                        var assignee = random.nextDouble() < shape.getCorrectAssignmentFraction()
+                                ? list.getCreator()
+                                : lists.get(random.nextInt(lists.size())).getCreator();
+                        writeRow(writer, list.getListId(), accountIds[assigner.getCreator()], accountIds[assignee]);
+                        ++numberOfAssignments;
+                    }
+                }
+            }
+        }
+
+        return numberOfAssignments;
+    }
+
+    private static BufferedWriter copy(PGConnection connection, String sql) throws SQLException {
+        return new BufferedWriter(new OutputStreamWriter(new PGCopyOutputStream(connection, sql), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    private static void writeRow(BufferedWriter writer, Object... values) throws IOException {
+        for (var i = 0; i < values.length; ++i) {
+            if (i > 0) {
+                writer.write('\t');
+            }
+
+            writer.write(toCopyText(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String toCopyText(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool ? "t" : "f";
+        }
+
+        return String.valueOf(value);
+    }
+
+    private static UUID randomUuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private static String randomVideoReferenceId(Random random) {
+        var referenceId = new StringBuilder(VIDEO_REFERENCE_ID_LENGTH);
+        for (var i = 0; i < VIDEO_REFERENCE_ID_LENGTH; ++i) {
+            referenceId.append(VIDEO_REFERENCE_ID_ALPHABET.charAt(random.nextInt(VIDEO_REFERENCE_ID_ALPHABET.length())));
+        }
+
+        return referenceId.toString();
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        var jdbcUrl = System.getenv("JDBC_POSTGRES_URL");
+        try (var connection = DriverManager.getConnection(jdbcUrl, System.getenv("JDBC_POSTGRES_USERNAME"), System.getenv("JDBC_POSTGRES_PASSWORD"))) {
+            new Seeder(SeedShape.fromSystemProperties()).seed(connection);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package nl.cofx.top10.seed;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import nl.cofx.top10.PostgresExtension;
+import nl.cofx.top10.QueryPlans;
+import nl.cofx.top10.config.TestConfig;
+import nl.cofx.top10.migration.MigrationVerticle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(PostgresExtension.class)
+@ExtendWith(VertxExtension.class)
+class SeederTest {
+
+    private static final TestConfig TEST_CONFIG = new TestConfig();
+
+    private static final SeedShape SHAPE = SeedShape.builder()
+            .randomSeed(7)
+            .numberOfAccounts(200)
+            .numberOfQuizzes(3)
+            .participantsPerQuiz(50)
+            .videosPerList(10)
+            .draftListFraction(0)
+            .build();
+
+    private static final List<String> DIGEST_QUERIES = List.of(
+            "SELECT md5(string_agg(concat_ws('|', account_id, name, email_address, first_login_at, last_login_at, number_of_logins), ',' ORDER BY account_id)) FROM account",
+            "SELECT md5(string_agg(concat_ws('|', quiz_id, name, is_active, creator_id, deadline), ',' ORDER BY quiz_id)) FROM quiz",
+            "SELECT md5(string_agg(concat_ws('|', list_id, account_id, quiz_id, has_draft_status), ',' ORDER BY list_id)) FROM list",
+            "SELECT md5(string_agg(concat_ws('|', video_id, list_id, url, reference_id), ',' ORDER BY video_id)) FROM video",
+            "SELECT md5(string_agg(concat_ws('|', list_id, account_id, assignee_id), ',' ORDER BY list_id, account_id)) FROM assignment");
+
+    @BeforeAll
+    public static void migrate(Vertx vertx) throws Exception {
+        var verticle = new MigrationVerticle(TEST_CONFIG.getJdbcUrl(), TEST_CONFIG.getJdbcUsername(), TEST_CONFIG.getJdbcPassword());
+        var deploymentOptions = new DeploymentOptions().setThreadingModel(ThreadingModel.WORKER);
+        vertx.deployVerticle(verticle, deploymentOptions).toCompletionStage().toCompletableFuture().get();
+    }
+
+    @AfterEach
+    public void clear() throws SQLException {
+        try (var connection = getConnection()) {
+            QueryPlans.clear(connection);
+        }
+    }
+
+    private static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(TEST_CONFIG.getJdbcUrl(), TEST_CONFIG.getJdbcUsername(), TEST_CONFIG.getJdbcPassword());
+    }
+
+    private static long count(Connection connection, String query) throws SQLException {
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Test
+    public void seedsDatabaseWithRequestedShape() throws Exception {
+        try (var connection = getConnection()) {
+            var quizIds = new Seeder(SHAPE).seed(connection);
+
+            assertThat(quizIds).hasSize(3);
+            assertThat(count(connection, "SELECT COUNT(*) FROM account")).isEqualTo(200);
+            assertThat(count(connection, "SELECT COUNT(*) FROM quiz")).isEqualTo(3);
+            assertThat(count(connection, "SELECT COUNT(*) FROM list")).isEqualTo(3 * 50);
+            assertThat(count(connection, "SELECT COUNT(*) FROM video")).isEqualTo(3 * 50 * 10);
+            assertThat(count(connection, "SELECT COUNT(*) FROM assignment")).isEqualTo(3 * 50 * 49);
+            assertThat(count(connection, "SELECT COUNT(*) FROM quiz q WHERE NOT EXISTS (SELECT 1 FROM list l WHERE l.quiz_id = q.quiz_id AND l.account_id = q.creator_id)")).isZero();
+            assertThat(count(connection, "SELECT COUNT(*) FROM assignment a JOIN list l ON l.list_id = a.list_id WHERE l.account_id = a.account_id")).isZero();
+        }
+    }
+
+    @Test
+    public void seedsSameDataForSameSeed() throws Exception {
+        try (var connection = getConnection()) {
+            new Seeder(SHAPE).seed(connection);
+            var firstDigests = digests(connection);
+
+            QueryPlans.clear(connection);
+            new Seeder(SeedShape.builder()
+                    .randomSeed(7)
+                    .numberOfAccounts(200)
+                    .numberOfQuizzes(3)
+                    .participantsPerQuiz(50)
+                    .videosPerList(10)
+                    .draftListFraction(0)
+                    .build()).seed(connection);
+            var secondDigests = digests(connection);
+
+            assertThat(secondDigests).isEqualTo(firstDigests);
+        }
+    }
+
+    private static List<String> digests(Connection connection) throws SQLException {
+        var digests = new ArrayList<String>();
+        for (var query : DIGEST_QUERIES) {
+            try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(query)) {
+                resultSet.next();
+                digests.add(resultSet.getString(1));
+            }
+        }
+
+        return digests;
+    }
+
+    @Test
+    public void rejectsMoreParticipantsThanAccounts() {
+        var shape = SeedShape.builder().numberOfAccounts(10).participantsPerQuiz(11).build();
+
+        assertThatThrownBy(() -> {
+            try (var connection = getConnection()) {
+                new Seeder(shape).seed(connection);
+            }
+        }).isInstanceOf(IllegalArgumentException.class);
+    }
+}
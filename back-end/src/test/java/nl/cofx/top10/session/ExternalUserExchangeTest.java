@@ -0,0 +1,151 @@
+package nl.cofx.top10.session;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import nl.cofx.top10.InvalidCredentialsException;
+import nl.cofx.top10.ServiceUnavailableException;
+import nl.cofx.top10.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static nl.cofx.top10.session.SessionConfiguration.EXTERNAL_USER_EXCHANGE_POOL_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+class ExternalUserExchangeTest {
+
+    private static final String CODE = "authorizationCode";
+
+    private final GoogleOauth2 googleOauth2 = mock(GoogleOauth2.class);
+    private final MicrosoftOauth2 microsoftOauth2 = mock(MicrosoftOauth2.class);
+
+    @Test
+    public void retrievesUserFromProvider(Vertx vertx, VertxTestContext vertxTestContext) {
+        var user = new JsonObject().put("id", "1234").put("provider", "microsoft");
+        when(microsoftOauth2.getUser(CODE)).thenReturn(user);
+
+        var externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2);
+        externalUserExchange.getUser("microsoft", CODE).onComplete(vertxTestContext.succeeding(externalUser -> {
+            vertxTestContext.verify(() -> assertThat(externalUser).isEqualTo(user));
+            vertxTestContext.completeNow();
+        }));
+    }
+
+    @Test
+    public void rejectsUnknownProvider(Vertx vertx, VertxTestContext vertxTestContext) {
+        var externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2);
+        externalUserExchange.getUser("facebook", CODE).onComplete(vertxTestContext.failing(cause -> {
+            vertxTestContext.verify(() -> {
+                assertThat(cause).isInstanceOf(ValidationException.class);
+                assertThat(cause).hasMessage("Invalid login provider: \"facebook\"");
+            });
+            vertxTestContext.completeNow();
+        }));
+    }
+
+    @Test
+    public void propagatesProviderFailures(Vertx vertx, VertxTestContext vertxTestContext) {
+        when(googleOauth2.getUser(CODE)).thenThrow(new InvalidCredentialsException("Invalid authorization code"));
+
+        var externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2);
+        externalUserExchange.getUser("google", CODE).onComplete(vertxTestContext.failing(cause -> {
+            vertxTestContext.verify(() -> assertThat(cause).isInstanceOf(InvalidCredentialsException.class));
+            vertxTestContext.completeNow();
+        }));
+    }
+
+    @Test
+    public void timesOutSlowProvider(Vertx vertx, VertxTestContext vertxTestContext) {
+        when(googleOauth2.getUser(CODE)).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return new JsonObject();
+        });
+
+        var externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2, 100, 1);
+        externalUserExchange.getUser("google", CODE).onComplete(vertxTestContext.failing(cause -> {
+            vertxTestContext.verify(() -> {
+                assertThat(cause).isInstanceOf(ServiceUnavailableException.class);
+                assertThat(cause).hasMessage("Log-in provider \"google\" did not respond in time");
+            });
+            vertxTestContext.completeNow();
+        }));
+    }
+
+    @Test
+    public void rejectsExchangesExceedingConcurrencyLimit(Vertx vertx, VertxTestContext vertxTestContext) {
+        when(googleOauth2.getUser(CODE)).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return new JsonObject();
+        });
+
+        var externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2, 5_000, 1);
+        var checkpoint = vertxTestContext.checkpoint(2);
+        externalUserExchange.getUser("google", CODE).onComplete(vertxTestContext.succeeding(externalUser -> checkpoint.flag()));
+        externalUserExchange.getUser("google", CODE).onComplete(vertxTestContext.failing(cause -> {
+            vertxTestContext.verify(() -> {
+                assertThat(cause).isInstanceOf(ServiceUnavailableException.class);
+                assertThat(cause).hasMessage("Too many concurrent log-in attempts");
+            });
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void holdsConcurrencySlotUntilProviderCallFinishes(Vertx vertx, VertxTestContext vertxTestContext) {
+        var hangingProvider = new CountDownLatch(1);
+        when(googleOauth2.getUser(CODE)).thenAnswer(invocation -> {
+            hangingProvider.await();
+            return new JsonObject();
+        });
+        var user = new JsonObject().put("id", "1234").put("provider", "microsoft");
+        when(microsoftOauth2.getUser(CODE)).thenReturn(user);
+
+        var externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2, 100, 1);
+        externalUserExchange.getUser("google", CODE)
+                .recover(timeout -> externalUserExchange.getUser("microsoft", CODE))
+                .onComplete(vertxTestContext.failing(cause -> {
+                    vertxTestContext.verify(() -> assertThat(cause).hasMessage("Too many concurrent log-in attempts"));
+                    hangingProvider.countDown();
+                    vertx.timer(100)
+                            .compose(id -> externalUserExchange.getUser("microsoft", CODE))
+                            .onComplete(vertxTestContext.succeeding(externalUser -> {
+                                vertxTestContext.verify(() -> assertThat(externalUser).isEqualTo(user));
+                                vertxTestContext.completeNow();
+                            }));
+                }));
+    }
+
+    @Test
+    public void skipsExchangesThatTimedOutBeforeStarting(Vertx vertx, VertxTestContext vertxTestContext) {
+        var hangingProvider = new CountDownLatch(1);
+        when(googleOauth2.getUser(CODE)).thenAnswer(invocation -> {
+            hangingProvider.await();
+            return new JsonObject();
+        });
+
+        var numberOfExchanges = EXTERNAL_USER_EXCHANGE_POOL_SIZE + 1;
+        var externalUserExchange = new ExternalUserExchange(vertx, googleOauth2, microsoftOauth2, 100, numberOfExchanges);
+        var exchanges = new ArrayList<Future<JsonObject>>();
+        for (var i = 0; i < numberOfExchanges; ++i) {
+            exchanges.add(externalUserExchange.getUser("google", CODE));
+        }
+
+        Future.join(exchanges).onComplete(vertxTestContext.failing(cause -> {
+            hangingProvider.countDown();
+            vertx.setTimer(100, id -> {
+                vertxTestContext.verify(() -> verify(googleOauth2, times(EXTERNAL_USER_EXCHANGE_POOL_SIZE)).getUser(CODE));
+                vertxTestContext.completeNow();
+            });
+        }));
+    }
+}
@@ -0,0 +1,59 @@
+package nl.cofx.top10.session;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import nl.cofx.top10.InvalidCredentialsException;
+import nl.cofx.top10.config.Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+class GoogleOauth2Test {
+
+    private static final long RESPONSE_DELAY_IN_MILLIS = 2_000;
+    private static final long TIMEOUT_IN_MILLIS = 100;
+
+    private final AtomicInteger numberOfRequests = new AtomicInteger();
+
+    private String tokenUrl;
+
+    @BeforeEach
+    public void startSlowTokenEndpoint(Vertx vertx, VertxTestContext vertxTestContext) {
+        vertx.createHttpServer()
+                .requestHandler(request -> {
+                    numberOfRequests.incrementAndGet();
+                    vertx.setTimer(RESPONSE_DELAY_IN_MILLIS, id -> request.response()
+                            .putHeader("content-type", "application/json")
+                            .end("{}"));
+                })
+                .listen(0)
+                .onComplete(vertxTestContext.succeeding(server -> {
+                    tokenUrl = String.format("http://localhost:%d/token", server.actualPort());
+                    vertxTestContext.completeNow();
+                }));
+    }
+
+    @Test
+    public void timesOutSlowTokenEndpoint() {
+        var config = mock(Config.class);
+        when(config.getGoogleOauth2ClientId()).thenReturn("clientId");
+        when(config.getGoogleOauth2TokenUrl()).thenReturn(tokenUrl);
+        var googleOauth2 = new GoogleOauth2(config, TIMEOUT_IN_MILLIS);
+
+        var start = System.nanoTime();
+        assertThatThrownBy(() -> googleOauth2.getUser("authorizationCode")).isInstanceOf(InvalidCredentialsException.class);
+        var elapsedInMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(numberOfRequests).hasValue(1);
+        assertThat(elapsedInMillis).isLessThan(RESPONSE_DELAY_IN_MILLIS);
+    }
+}
@@ -0,0 +1,62 @@
+package nl.cofx.top10.session;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenCredential;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import nl.cofx.top10.config.Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+class MicrosoftOauth2Test {
+
+    private static final long RESPONSE_DELAY_IN_MILLIS = 2_000;
+    private static final long TIMEOUT_IN_MILLIS = 100;
+    private static final TokenCredential CREDENTIAL = tokenRequestContext -> Mono.just(new AccessToken("accessToken", OffsetDateTime.now().plusHours(1)));
+
+    private final AtomicInteger numberOfRequests = new AtomicInteger();
+
+    private String graphUrl;
+
+    @BeforeEach
+    public void startSlowGraphEndpoint(Vertx vertx, VertxTestContext vertxTestContext) {
+        vertx.createHttpServer()
+                .requestHandler(request -> {
+                    numberOfRequests.incrementAndGet();
+                    vertx.setTimer(RESPONSE_DELAY_IN_MILLIS, id -> request.response()
+                            .putHeader("content-type", "application/json")
+                            .end("{}"));
+                })
+                .listen(0)
+                .onComplete(vertxTestContext.succeeding(server -> {
+                    graphUrl = String.format("http://localhost:%d/v1.0", server.actualPort());
+                    vertxTestContext.completeNow();
+                }));
+    }
+
+    @Test
+    public void timesOutSlowGraphEndpoint() {
+        var config = mock(Config.class);
+        when(config.getMicrosoftGraphUrl()).thenReturn(graphUrl);
+        var microsoftOauth2 = new MicrosoftOauth2(config, TIMEOUT_IN_MILLIS);
+
+        var start = System.nanoTime();
+        assertThatThrownBy(() -> microsoftOauth2.getUserFromGraph(CREDENTIAL)).isInstanceOf(RuntimeException.class);
+        var elapsedInMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(numberOfRequests).hasValue(1);
+        assertThat(elapsedInMillis).isLessThan(RESPONSE_DELAY_IN_MILLIS);
+    }
+}
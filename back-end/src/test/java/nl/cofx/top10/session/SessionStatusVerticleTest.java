@@ -40,7 +40,7 @@ class SessionStatusVerticleTest extends AbstractVerticleTest {
 
         server.requestHandler(router);
 
-        vertx.deployVerticle(new SessionStatusVerticle(jwt, router, SECRET_KEY, true), deploymentResult -> {
+        vertx.deployVerticle(new SessionStatusVerticle(jwt, router, SECRET_KEY, true, 0.5), deploymentResult -> {
             if (deploymentResult.succeeded()) {
                 server.listen().onComplete(asyncServer -> {
                     if (asyncServer.failed()) {
@@ -144,4 +144,58 @@ class SessionStatusVerticleTest extends AbstractVerticleTest {
         var eightHoursFromNow = Date.from(Instant.now().plus(8, ChronoUnit.HOURS));
         assertThat(body.getExpiration()).isCloseTo(eightHoursFromNow, FIVE_SECONDS_IN_MILLISECONDS);
     }
+
+    @Test
+    public void reusesSessionCookieThatIsNotDueForRefresh() throws IOException, InterruptedException {
+        var token = Jwts.builder()
+                .expiration(Date.from(Instant.now().plus(7, ChronoUnit.HOURS)))
+                .subject(USER_ID)
+                .claim("name", NAME)
+                .claim("emailAddress", EMAIL_ADDRESS)
+                .signWith(SECRET_KEY, Jwts.SIG.HS512)
+                .compact();
+
+        var httpClient = HttpClient.newHttpClient();
+        var request = HttpRequest.newBuilder()
+                .GET()
+                .uri(URI.create("http://localhost:" + port + PATH))
+                .header("Cookie", COOKIE_NAME + "=" + token)
+                .build();
+        var response = httpClient.send(request, new JsonObjectBodyHandler());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Set-Cookie")).isEmpty();
+        var body = response.body();
+        assertThat(body.getString("status")).isEqualTo("VALID_SESSION");
+        assertThat(body.getString("token")).isEqualTo(token);
+        assertThat(body.getString("name")).isEqualTo(NAME);
+        assertThat(body.getString("emailAddress")).isEqualTo(EMAIL_ADDRESS);
+    }
+
+    @Test
+    public void extendsSessionCookieThatIsDueForRefresh() throws IOException, InterruptedException {
+        var token = Jwts.builder()
+                .expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .subject(USER_ID)
+                .signWith(SECRET_KEY, Jwts.SIG.HS512)
+                .compact();
+
+        var httpClient = HttpClient.newHttpClient();
+        var request = HttpRequest.newBuilder()
+                .GET()
+                .uri(URI.create("http://localhost:" + port + PATH))
+                .header("Cookie", COOKIE_NAME + "=" + token)
+                .build();
+        var response = httpClient.send(request, new JsonObjectBodyHandler());
+
+        var optionalCookie = response.headers().firstValue("Set-Cookie");
+        assertThat(optionalCookie).isNotEmpty();
+        var cookieValue = extractCookie(COOKIE_NAME, optionalCookie.get());
+
+        var claims = jwt.getJws(cookieValue);
+        assertThat(claims).isNotNull();
+
+        var eightHoursFromNow = Date.from(Instant.now().plus(8, ChronoUnit.HOURS));
+        assertThat(claims.getPayload().getExpiration()).isCloseTo(eightHoursFromNow, FIVE_SECONDS_IN_MILLISECONDS);
+    }
 }
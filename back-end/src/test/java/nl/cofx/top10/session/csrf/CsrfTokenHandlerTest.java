@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,7 +34,7 @@ class CsrfTokenHandlerTest {
     private static final String CSRF_TOKEN_CLAIM_NAME = "csrfToken";
 
     private final Jwt jwt = new Jwt(SECRET_KEY);
-    private final CsrfTokenHandler csrfHeaderChecker = new CsrfTokenHandler(jwt, SECRET_KEY, true);
+    private final CsrfTokenHandler csrfHeaderChecker = new CsrfTokenHandler(jwt, SECRET_KEY, true, 60);
     private final RoutingContext routingContext = mock(RoutingContext.class);
     private final HttpServerRequest request = mock(HttpServerRequest.class);
     private final HttpServerResponse response = mock(HttpServerResponse.class);
@@ -99,6 +101,49 @@ class CsrfTokenHandlerTest {
         assertThat(tokenInCookie).isNotEqualTo(token);
     }
 
+    @Test
+    public void reusesRecentlyIssuedTokens() {
+        when(request.method()).thenReturn(HttpMethod.POST);
+        var token = "abcdefg12345";
+        var cookieValue = Jwts.builder()
+                .claim(CSRF_TOKEN_CLAIM_NAME, token)
+                .issuedAt(new Date())
+                .signWith(SECRET_KEY, Jwts.SIG.HS512)
+                .compact();
+        when(request.getCookie(CSRF_COOKIE_NAME)).thenReturn(Cookie.cookie(CSRF_COOKIE_NAME, cookieValue));
+        when(request.getHeader(TOKEN_HEADER_NAME)).thenReturn(token);
+        csrfHeaderChecker.handle(routingContext);
+
+        verify(response).putHeader(TOKEN_HEADER_NAME, token);
+        verify(response, never()).addCookie(any());
+        verify(routingContext).next();
+    }
+
+    @Test
+    public void rotatesTokensPastRotationAge() {
+        when(request.method()).thenReturn(HttpMethod.GET);
+        var token = "abcdefg12345";
+        var cookieValue = Jwts.builder()
+                .claim(CSRF_TOKEN_CLAIM_NAME, token)
+                .issuedAt(Date.from(Instant.now().minusSeconds(120)))
+                .signWith(SECRET_KEY, Jwts.SIG.HS512)
+                .compact();
+        when(request.getCookie(CSRF_COOKIE_NAME)).thenReturn(Cookie.cookie(CSRF_COOKIE_NAME, cookieValue));
+        csrfHeaderChecker.handle(routingContext);
+
+        var stringCaptor = ArgumentCaptor.forClass(String.class);
+        verify(response).putHeader(eq(TOKEN_HEADER_NAME), stringCaptor.capture());
+        var cookieCaptor = ArgumentCaptor.forClass(Cookie.class);
+        verify(response).addCookie(cookieCaptor.capture());
+        verify(routingContext).next();
+
+        var headerValue = stringCaptor.getValue();
+        assertThat(headerValue).isNotEqualTo(token);
+        var jws = jwt.getJws(cookieCaptor.getValue().getValue());
+        assertThat(jws.getPayload().get(CSRF_TOKEN_CLAIM_NAME)).isEqualTo(headerValue);
+        assertThat(jws.getPayload().getIssuedAt()).isNotNull();
+    }
+
     @Test
     public void rejectsRequestWithoutCookie() {
         when(request.method()).thenReturn(HttpMethod.POST);
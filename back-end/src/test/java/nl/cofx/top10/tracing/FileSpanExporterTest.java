@@ -0,0 +1,48 @@
+package nl.cofx.top10.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.vertx.core.json.JsonObject;
+
+class FileSpanExporterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void appendsSpansAsJsonLines() throws IOException {
+        var path = directory.resolve("traces.jsonl");
+        try (var tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(path)))
+                .build()) {
+            var tracer = tracerProvider.get("test");
+            var parent = tracer.spanBuilder("parent").startSpan();
+            var child = tracer.spanBuilder("child")
+                    .setParent(Context.current().with(parent))
+                    .setAttribute("db.system", "postgresql")
+                    .startSpan();
+            child.end();
+            parent.end();
+        }
+
+        var lines = Files.readAllLines(path);
+        assertThat(lines).hasSize(2);
+
+        var child = new JsonObject(lines.get(0));
+        var parent = new JsonObject(lines.get(1));
+        assertThat(child.getString("name")).isEqualTo("child");
+        assertThat(child.getString("traceId")).isEqualTo(parent.getString("traceId"));
+        assertThat(child.getString("parentSpanId")).isEqualTo(parent.getString("spanId"));
+        assertThat(child.getJsonObject("attributes").getString("db.system")).isEqualTo("postgresql");
+    }
+}